@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import com.datastax.driver.core.BatchStatement;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+/**
+ * Defines how {@link CassandraTemplate} groups entities into {@link BatchStatement}s when it saves them in bulk.
+ * An UNLOGGED batch groups the entities by table and partition key, so each batch goes to a single partition.
+ * A LOGGED batch keeps the iteration order and is applied atomically by Cassandra.
+ */
+public interface CassandraBatch {
+
+    /**
+     * The batch type
+     *
+     * @return the {@link BatchStatement.Type}
+     */
+    BatchStatement.Type getType();
+
+    /**
+     * The maximum number of statements in a single batch
+     *
+     * @return the max size
+     */
+    int getMaxSize();
+
+    /**
+     * The columns that compose the partition key, used to group an UNLOGGED batch.
+     * It is empty to a LOGGED batch.
+     *
+     * @return the partition key column names
+     */
+    List<String> getPartitionKeys();
+
+    /**
+     * Creates an UNLOGGED batch grouped by the partition key columns
+     *
+     * @param maxSize       the maximum number of statements in a single batch
+     * @param partitionKeys the columns that compose the partition key
+     * @return a {@link CassandraBatch} instance
+     * @throws IllegalArgumentException when either maxSize is lesser than one or partitionKeys is empty
+     * @throws NullPointerException     when partitionKeys is null
+     */
+    static CassandraBatch unlogged(int maxSize, String... partitionKeys) throws IllegalArgumentException,
+            NullPointerException {
+        if (partitionKeys.length == 0) {
+            throw new IllegalArgumentException("An unlogged batch requires the partition key columns");
+        }
+        return new DefaultCassandraBatch(BatchStatement.Type.UNLOGGED, maxSize, asList(partitionKeys));
+    }
+
+    /**
+     * Creates a LOGGED batch
+     *
+     * @param maxSize the maximum number of statements in a single batch
+     * @return a {@link CassandraBatch} instance
+     * @throws IllegalArgumentException when maxSize is lesser than one
+     */
+    static CassandraBatch logged(int maxSize) throws IllegalArgumentException {
+        return new DefaultCassandraBatch(BatchStatement.Type.LOGGED, maxSize, emptyList());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.cassandra.column.UDT;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static java.util.stream.StreamSupport.stream;
+
+final class CassandraBatchUtil {
+
+    private CassandraBatchUtil() {
+    }
+
+    /**
+     * Checks if the entity can be written as a plain insert, UDTs and sub columns require the session metadata,
+     * so those entities are saved one by one.
+     */
+    static boolean isBatchable(ColumnEntity entity) {
+        return entity.getColumns().stream().noneMatch(CassandraBatchUtil::isComplex);
+    }
+
+    static Insert insert(ColumnEntity entity, Optional<Duration> ttl) {
+        Insert insert = QueryBuilder.insertInto(entity.getName());
+        entity.getColumns().forEach(c -> insert.value(c.getName(), c.get()));
+        ttl.ifPresent(t -> insert.using(QueryBuilder.ttl((int) t.getSeconds())));
+        return insert;
+    }
+
+    private static boolean isComplex(Column column) {
+        if (UDT.class.isInstance(column)) {
+            return true;
+        }
+        Object value = column.get();
+        if (Column.class.isInstance(value)) {
+            return true;
+        }
+        return Iterable.class.isInstance(value) && stream(Iterable.class.cast(value).spliterator(), false)
+                .anyMatch(Column.class::isInstance);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.ConsistencyLevel;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Groups the inserts into {@link BatchStatement}s as the entities arrive and executes each batch once it is full,
+ * so the entities are never loaded at once. An UNLOGGED batch keeps a batch open to each table and partition key,
+ * at most maxSize of them, the least recently started one is executed to open a new one.
+ */
+final class CassandraBatchWriter {
+
+    private final CassandraBatch batch;
+
+    private final Optional<Duration> ttl;
+
+    private final ConsistencyLevel level;
+
+    private final Consumer<BatchStatement> executor;
+
+    private final Map<List<Object>, BatchStatement> groups = new LinkedHashMap<>();
+
+    CassandraBatchWriter(CassandraBatch batch, Optional<Duration> ttl, ConsistencyLevel level,
+                         Consumer<BatchStatement> executor) {
+        this.batch = batch;
+        this.ttl = ttl;
+        this.level = level;
+        this.executor = executor;
+    }
+
+    /**
+     * Adds the insert of the entity to its batch, executing the batch when it is full
+     *
+     * @param entity the entity, it must be batchable
+     */
+    void add(ColumnEntity entity) {
+        List<Object> key = getKey(entity);
+        BatchStatement statement = groups.get(key);
+        if (statement == null) {
+            if (groups.size() >= batch.getMaxSize()) {
+                Iterator<BatchStatement> eldest = groups.values().iterator();
+                executor.accept(eldest.next());
+                eldest.remove();
+            }
+            statement = new BatchStatement(batch.getType());
+            statement.setConsistencyLevel(level);
+            groups.put(key, statement);
+        }
+        statement.add(CassandraBatchUtil.insert(entity, ttl));
+        if (statement.size() >= batch.getMaxSize()) {
+            groups.remove(key);
+            executor.accept(statement);
+        }
+    }
+
+    /**
+     * Executes the batches not full yet
+     */
+    void flush() {
+        groups.values().forEach(executor);
+        groups.clear();
+    }
+
+    private List<Object> getKey(ColumnEntity entity) {
+        if (BatchStatement.Type.LOGGED.equals(batch.getType())) {
+            return emptyList();
+        }
+        List<Object> key = new ArrayList<>();
+        key.add(entity.getName());
+        batch.getPartitionKeys().stream()
+                .map(k -> entity.find(k).map(Column::get).orElse(null))
+                .forEach(key::add);
+        return key;
+    }
+}
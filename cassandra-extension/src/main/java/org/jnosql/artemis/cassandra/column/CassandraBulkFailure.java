@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An entity of a bulk save from {@link CassandraTemplateAsync} that could not be saved, with the cause
+ *
+ * @param <T> the entity type
+ */
+public interface CassandraBulkFailure<T> {
+
+    /**
+     * The entity that could not be saved
+     *
+     * @return the entity
+     */
+    T getEntity();
+
+    /**
+     * The cause of the failure
+     *
+     * @return the cause
+     */
+    Throwable getCause();
+
+    /**
+     * Creates a new {@link CassandraBulkFailure}
+     *
+     * @param entity the entity
+     * @param cause  the cause
+     * @param <T>    the entity type
+     * @return a new {@link CassandraBulkFailure} instance
+     * @throws NullPointerException when either entity or cause are null
+     */
+    static <T> CassandraBulkFailure<T> of(T entity, Throwable cause) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(cause, "cause is required");
+        return new DefaultCassandraBulkFailure<>(entity, cause);
+    }
+}
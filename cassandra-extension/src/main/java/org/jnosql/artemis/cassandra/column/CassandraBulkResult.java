@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import java.util.List;
+
+/**
+ * The outcome of a bulk save from {@link CassandraTemplateAsync}, delivered once every write has finished.
+ *
+ * @param <T> the entity type
+ */
+public interface CassandraBulkResult<T> {
+
+    /**
+     * The entities saved, in the order the writes completed
+     *
+     * @return the entities saved
+     */
+    List<T> getSaved();
+
+    /**
+     * The entities that could not be saved, with the cause of each failure, one entry to each write,
+     * so entities that are equal are reported apart
+     *
+     * @return the failures
+     */
+    List<CassandraBulkFailure<T>> getFailures();
+
+    /**
+     * Checks if every entity was saved
+     *
+     * @return true when there is no failure
+     */
+    default boolean isSuccess() {
+        return getFailures().isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import com.datastax.driver.core.ResultSetFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Collections.synchronizedList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Saves entities asynchronously keeping at most maxInFlight writes pending. The caller thread waits for a free
+ * slot before sending the next write, and the callback is called once, after the last write finishes.
+ * A slot is given back when the write completes, either successfully or with a failure.
+ * The completions and the callback run on a thread of this bulk save instead of the driver I/O thread, so the
+ * callback might block or query Cassandra. The thread finishes after the callback.
+ *
+ * @param <T> the entity type
+ */
+final class CassandraBulkSave<T> implements CassandraBulkResult<T> {
+
+    private final Semaphore window;
+
+    private final AtomicInteger pending = new AtomicInteger(1);
+
+    private final List<T> saved = synchronizedList(new ArrayList<>());
+
+    private final List<CassandraBulkFailure<T>> failures = synchronizedList(new ArrayList<>());
+
+    private final Consumer<CassandraBulkResult<T>> callBack;
+
+    private final ExecutorService executor;
+
+    CassandraBulkSave(int maxInFlight, Consumer<CassandraBulkResult<T>> callBack) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be greater than zero");
+        }
+        this.window = new Semaphore(maxInFlight);
+        this.callBack = callBack;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "cassandra-bulk-save");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sends every entity through the write action
+     *
+     * @param entities the entities
+     * @param write    sends the write and returns its future
+     */
+    void save(Iterable<T> entities, Function<T, ResultSetFuture> write) {
+        for (T entity : entities) {
+            try {
+                window.acquire();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                failures.add(new DefaultCassandraBulkFailure<>(entity, exception));
+                break;
+            }
+            pending.incrementAndGet();
+            try {
+                ResultSetFuture future = write.apply(entity);
+                future.addListener(() -> onComplete(entity, future), executor);
+            } catch (RuntimeException exception) {
+                failures.add(new DefaultCassandraBulkFailure<>(entity, exception));
+                release();
+            }
+        }
+        complete();
+    }
+
+    @Override
+    public List<T> getSaved() {
+        synchronized (saved) {
+            return unmodifiableList(new ArrayList<>(saved));
+        }
+    }
+
+    @Override
+    public List<CassandraBulkFailure<T>> getFailures() {
+        synchronized (failures) {
+            return unmodifiableList(new ArrayList<>(failures));
+        }
+    }
+
+    private void onComplete(T entity, ResultSetFuture future) {
+        try {
+            future.getUninterruptibly();
+            saved.add(entity);
+        } catch (RuntimeException exception) {
+            failures.add(new DefaultCassandraBulkFailure<>(entity, exception));
+        } finally {
+            release();
+        }
+    }
+
+    private void release() {
+        window.release();
+        complete();
+    }
+
+    private void complete() {
+        if (pending.decrementAndGet() == 0) {
+            executor.execute(() -> {
+                try {
+                    callBack.accept(this);
+                } finally {
+                    executor.shutdown();
+                }
+            });
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CassandraBulkSave{");
+        sb.append("saved=").append(saved.size());
+        sb.append(", failures=").append(failures.size());
+        sb.append(", pending=").append(pending.get());
+        sb.append('}');
+        return sb.toString();
+    }
+}
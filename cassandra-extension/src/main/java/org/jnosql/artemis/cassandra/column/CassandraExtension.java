@@ -15,15 +15,31 @@
 package org.jnosql.artemis.cassandra.column;
 
 
+import org.jnosql.diana.cassandra.column.CassandraColumnFamilyManager;
+import org.jnosql.diana.cassandra.column.CassandraColumnFamilyManagerAsync;
+import org.jnosql.diana.cassandra.column.CassandraPrepareStatment;
+
 import javax.enterprise.event.Observes;
+import javax.enterprise.inject.AmbiguousResolutionException;
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.AfterDeploymentValidation;
+import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class CassandraExtension implements Extension {
@@ -34,6 +50,10 @@ public class CassandraExtension implements Extension {
 
     private final Collection<Class<?>> crudAsyncTypes = new HashSet<>();
 
+    private final Collection<String> queries = new HashSet<>();
+
+    private final Collection<String> asyncQueries = new HashSet<>();
+
 
     <T extends CassandraRepository> void onProcessAnnotatedType(@Observes final ProcessAnnotatedType<T> repo) {
         Class<T> javaClass = repo.getAnnotatedType().getJavaClass();
@@ -45,6 +65,7 @@ public class CassandraExtension implements Extension {
         if (Stream.of(javaClass.getInterfaces()).anyMatch(CassandraRepository.class::equals)
                 && Modifier.isInterface(javaClass.getModifiers())) {
             crudTypes.add(javaClass);
+            queries.addAll(getPreparedQueries(javaClass));
         }
     }
 
@@ -58,6 +79,7 @@ public class CassandraExtension implements Extension {
         if (Stream.of(javaClass.getInterfaces()).anyMatch(CassandraRepositoryAsync.class::equals)
                 && Modifier.isInterface(javaClass.getModifiers())) {
             crudAsyncTypes.add(javaClass);
+            asyncQueries.addAll(getPreparedQueries(javaClass));
         }
     }
 
@@ -71,4 +93,83 @@ public class CassandraExtension implements Extension {
 
         LOGGER.info("Finished the onAfterBeanDiscovery");
     }
+
+    void onAfterDeploymentValidation(@Observes final AfterDeploymentValidation afterDeploymentValidation,
+                                     final BeanManager beanManager) {
+        if (queries.isEmpty() && asyncQueries.isEmpty()) {
+            return;
+        }
+        LOGGER.info("Preparing the CQL queries, sync: " + queries.size() + " async: " + asyncQueries.size());
+        Instance<Object> instance = beanManager.createInstance();
+        DefaultCassandraPreparedStatementCache cache = instance.select(DefaultCassandraPreparedStatementCache.class)
+                .get();
+        prepare(beanManager, cache, CassandraColumnFamilyManager.class, queries,
+                CassandraColumnFamilyManager::nativeQueryPrepare);
+        prepare(beanManager, cache, CassandraColumnFamilyManagerAsync.class, asyncQueries,
+                CassandraColumnFamilyManagerAsync::nativeQueryPrepare);
+    }
+
+    /**
+     * Prepares the queries just when the manager bean is normal scoped, a dependent manager would be created
+     * only to prepare them and never destroyed. Any failure, such as an unreachable cluster, is logged and
+     * the queries are prepared at their first execution instead.
+     */
+    private <T> void prepare(BeanManager beanManager, DefaultCassandraPreparedStatementCache cache, Class<T> type,
+                             Collection<String> queries,
+                             BiFunction<T, String, CassandraPrepareStatment> prepare) {
+        if (queries.isEmpty() || !isNormalScoped(beanManager, type)) {
+            return;
+        }
+        try {
+            T manager = beanManager.createInstance().select(type).get();
+            for (String query : queries) {
+                try {
+                    cache.prepare(type, query, () -> prepare.apply(manager, query));
+                } catch (RuntimeException exception) {
+                    LOGGER.log(Level.WARNING, "It could not prepare the query: " + query, exception);
+                }
+            }
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "It could not prepare the queries of " + type.getName(), exception);
+        }
+    }
+
+    private boolean isNormalScoped(BeanManager beanManager, Class<?> type) {
+        Set<Bean<?>> beans = beanManager.getBeans(type);
+        if (beans.isEmpty()) {
+            return false;
+        }
+        try {
+            Bean<?> bean = beanManager.resolve(beans);
+            if (bean != null && beanManager.isNormalScope(bean.getScope())) {
+                return true;
+            }
+            LOGGER.info("The queries are prepared at the first execution, the bean is not normal scoped: "
+                    + type.getName());
+            return false;
+        } catch (AmbiguousResolutionException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the {@link CQL} queries that the repository executes as prepared statements,
+     * the ones with positional parameters.
+     */
+    private Collection<String> getPreparedQueries(Class<?> repository) {
+        return Stream.of(repository.getMethods())
+                .filter(m -> Objects.nonNull(m.getAnnotation(CQL.class)))
+                .filter(this::isPrepared)
+                .map(m -> m.getAnnotation(CQL.class).value())
+                .collect(Collectors.toList());
+    }
+
+    private boolean isPrepared(Method method) {
+        Parameter[] parameters = method.getParameters();
+        boolean hasParams = Stream.of(parameters)
+                .anyMatch(p -> Objects.nonNull(p.getAnnotation(Param.class)));
+        boolean hasValues = Stream.of(parameters)
+                .anyMatch(p -> !Consumer.class.isAssignableFrom(p.getType()));
+        return !hasParams && hasValues;
+    }
 }
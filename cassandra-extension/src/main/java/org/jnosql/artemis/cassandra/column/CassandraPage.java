@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A single page of a query result from {@link CassandraTemplate#page(com.datastax.driver.core.Statement, int)}.
+ * The paging state can be sent to another request to resume the query from the next page, through
+ * {@link com.datastax.driver.core.Statement#setPagingState(com.datastax.driver.core.PagingState)}.
+ *
+ * @param <T> the entity type
+ */
+public interface CassandraPage<T> {
+
+    /**
+     * The entities of this page
+     *
+     * @return the entities
+     */
+    List<T> getContent();
+
+    /**
+     * The paging state, in its String form, to fetch the next page
+     *
+     * @return the paging state or {@link Optional#empty()} when this is the last page
+     */
+    Optional<String> getPagingState();
+}
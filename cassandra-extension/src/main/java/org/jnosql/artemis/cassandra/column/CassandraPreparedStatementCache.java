@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+/**
+ * A bounded cache of the prepared statements used by {@link CassandraTemplate#cql(String, Object...)},
+ * {@link CassandraTemplateAsync#cql(String, java.util.function.Consumer, Object...)} and the {@link CQL}
+ * repository methods. The statements are keyed by the query text and kept apart to the sync and async managers,
+ * so a query is prepared once instead of on every call, even when the manager producer is dependent and creates
+ * a new manager at each injection. Those managers are expected to share the same driver session.
+ */
+public interface CassandraPreparedStatementCache {
+
+    /**
+     * Returns how many times a prepared statement was reused
+     *
+     * @return the hit count
+     */
+    long getHitCount();
+
+    /**
+     * Returns how many times a statement had to be prepared
+     *
+     * @return the miss count
+     */
+    long getMissCount();
+
+    /**
+     * Returns the number of cached queries
+     *
+     * @return the number of cached queries
+     */
+    int size();
+
+    /**
+     * Removes every prepared statement from the cache
+     */
+    void clear();
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.cassandra.column.UDT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+/**
+ * Converts the driver {@link Row} to {@link ColumnEntity} one row at a time, so a result can be consumed while
+ * the driver fetches the next pages.
+ */
+final class CassandraRowUtil {
+
+    private CassandraRowUtil() {
+    }
+
+    static ColumnEntity toEntity(Row row) {
+        ColumnDefinitions definitions = row.getColumnDefinitions();
+        ColumnEntity entity = ColumnEntity.of(definitions.getTable(0));
+        for (ColumnDefinitions.Definition definition : definitions) {
+            String name = definition.getName();
+            Object value = row.getObject(name);
+            if (value != null) {
+                entity.add(toColumn(name, value));
+            }
+        }
+        return entity;
+    }
+
+    private static Column toColumn(String name, Object value) {
+        if (UDTValue.class.isInstance(value)) {
+            UDTValue udt = UDTValue.class.cast(value);
+            return UDT.builder(udt.getType().getTypeName()).withName(name).addUDT(toColumns(udt)).build();
+        }
+        if (Iterable.class.isInstance(value) && isUDTs(Iterable.class.cast(value))) {
+            List<Iterable<Column>> udts = new ArrayList<>();
+            String type = null;
+            for (Object element : Iterable.class.cast(value)) {
+                UDTValue udt = UDTValue.class.cast(element);
+                type = udt.getType().getTypeName();
+                udts.add(toColumns(udt));
+            }
+            return UDT.builder(type).withName(name).addUDTs(udts).build();
+        }
+        return Column.of(name, value);
+    }
+
+    private static List<Column> toColumns(UDTValue udt) {
+        List<Column> columns = new ArrayList<>();
+        for (UserType.Field field : udt.getType()) {
+            Object value = udt.getObject(field.getName());
+            if (value != null) {
+                columns.add(toColumn(field.getName(), value));
+            }
+        }
+        return columns;
+    }
+
+    private static boolean isUDTs(Iterable<?> values) {
+        return values.iterator().hasNext() && StreamSupport.stream(values.spliterator(), false)
+                .allMatch(UDTValue.class::isInstance);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Defines a full table scan split into token ranges, see {@link CassandraTemplate#scan(CassandraScan)}.
+ * The token ring of the Murmur3 partitioner is split into {@link CassandraScan#getSplits()} sub ranges,
+ * each one queried with {@code token(pk) > ? AND token(pk) <= ?}.
+ */
+public interface CassandraScan {
+
+    /**
+     * The default number of rows per page of each sub range
+     */
+    int DEFAULT_FETCH_SIZE = 5_000;
+
+    /**
+     * The table to be scanned
+     *
+     * @return the table name
+     */
+    String getTable();
+
+    /**
+     * The columns that compose the partition key, in the order declared in the table
+     *
+     * @return the partition key column names
+     */
+    List<String> getPartitionKeys();
+
+    /**
+     * The number of token sub ranges
+     *
+     * @return the number of sub ranges
+     */
+    int getSplits();
+
+    /**
+     * The number of rows per page of each sub range
+     *
+     * @return the fetch size
+     */
+    int getFetchSize();
+
+    /**
+     * Returns a copy of this scan with another fetch size
+     *
+     * @param fetchSize the number of rows per page
+     * @return a new {@link CassandraScan} instance
+     * @throws IllegalArgumentException when fetchSize is lesser than one
+     */
+    CassandraScan withFetchSize(int fetchSize) throws IllegalArgumentException;
+
+    /**
+     * Creates a scan of the whole table
+     *
+     * @param table         the table name
+     * @param splits        the number of token sub ranges
+     * @param partitionKeys the columns that compose the partition key
+     * @return a {@link CassandraScan} instance
+     * @throws NullPointerException     when either table or partitionKeys are null
+     * @throws IllegalArgumentException when splits is lesser than one or there is no partition key
+     */
+    static CassandraScan of(String table, int splits, String... partitionKeys) throws NullPointerException,
+            IllegalArgumentException {
+        return new DefaultCassandraScan(table, splits, asList(partitionKeys), DEFAULT_FETCH_SIZE);
+    }
+}
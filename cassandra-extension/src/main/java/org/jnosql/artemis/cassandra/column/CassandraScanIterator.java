@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Chains the result of each token range, querying the next range only when the current one is exhausted. Unlike
+ * {@link Stream#flatMap(Function)}, which on Java 8 buffers the whole inner stream once a short-circuit operation
+ * is used (JDK-8075939), only the current page of the current range stays in memory.
+ *
+ * @param <T> the entity type
+ */
+final class CassandraScanIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final Iterator<? extends Object[]> ranges;
+
+    private final Function<Object[], Stream<T>> query;
+
+    private Stream<T> current;
+
+    private Iterator<T> entities = Collections.emptyIterator();
+
+    CassandraScanIterator(Iterator<? extends Object[]> ranges, Function<Object[], Stream<T>> query) {
+        this.ranges = ranges;
+        this.query = query;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!entities.hasNext()) {
+            close();
+            if (!ranges.hasNext()) {
+                return false;
+            }
+            current = query.apply(ranges.next());
+            entities = current.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more entities in the scan");
+        }
+        return entities.next();
+    }
+
+    @Override
+    public void close() {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+        entities = Collections.emptyIterator();
+    }
+}
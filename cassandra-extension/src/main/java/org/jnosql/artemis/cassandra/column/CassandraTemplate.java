@@ -25,6 +25,9 @@ import org.jnosql.diana.api.column.ColumnQuery;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * A Cassandra extension of {@link org.jnosql.artemis.column.ColumnTemplate}
@@ -69,6 +72,37 @@ public interface CassandraTemplate extends ColumnTemplate {
     <T> Iterable<T> save(Iterable<T> entities, ConsistencyLevel level) throws NullPointerException;
 
 
+    /**
+     * Saves the entities using {@link com.datastax.driver.core.BatchStatement}s, one round trip per batch
+     * instead of one per entity. Entities that have UDT fields are saved one by one. The entities are converted
+     * as they are iterated and each batch is executed once it is full.
+     *
+     * @param <T>      type
+     * @param entities the entities
+     * @param ttl      the ttl
+     * @param level    the level
+     * @param batch    how the entities are grouped into batches
+     * @return the entities saved
+     * @throws NullPointerException when either entities or ttl or level or batch are null
+     */
+    <T> Iterable<T> save(Iterable<T> entities, Duration ttl, ConsistencyLevel level, CassandraBatch batch)
+            throws NullPointerException;
+
+    /**
+     * Saves the entities using {@link com.datastax.driver.core.BatchStatement}s, one round trip per batch
+     * instead of one per entity. Entities that have UDT fields are saved one by one. The entities are converted
+     * as they are iterated and each batch is executed once it is full.
+     *
+     * @param <T>      type
+     * @param entities the entities
+     * @param level    the level
+     * @param batch    how the entities are grouped into batches
+     * @return the entities saved
+     * @throws NullPointerException when either entities or level or batch are null
+     */
+    <T> Iterable<T> save(Iterable<T> entities, ConsistencyLevel level, CassandraBatch batch)
+            throws NullPointerException;
+
     /**
      * Saves an entity using {@link ConsistencyLevel}
      *
@@ -144,4 +178,98 @@ public interface CassandraTemplate extends ColumnTemplate {
      */
     <T> List<T> execute(Statement statement) throws NullPointerException;
 
+    /**
+     * Executes a statement fetching the result lazily, fetchSize rows per page. The rows are converted while the
+     * stream is consumed, so only the current page stays in memory.
+     *
+     * @param <T>       type
+     * @param statement the statement
+     * @param fetchSize the number of rows per page
+     * @return the result of this query as a lazy stream
+     * @throws NullPointerException          when statement is null
+     * @throws IllegalArgumentException      when fetchSize is lesser than one
+     * @throws UnsupportedOperationException when there is no {@link com.datastax.driver.core.Session} bean
+     */
+    <T> Stream<T> stream(Statement statement, int fetchSize) throws NullPointerException, IllegalArgumentException,
+            UnsupportedOperationException;
+
+    /**
+     * Executes CQL fetching the result lazily, fetchSize rows per page.
+     *
+     * @param <T>       type
+     * @param query     the Cassandra query language
+     * @param fetchSize the number of rows per page
+     * @param params    the params
+     * @return the result of this query as a lazy stream
+     * @throws NullPointerException          when query is null
+     * @throws IllegalArgumentException      when fetchSize is lesser than one
+     * @throws UnsupportedOperationException when there is no {@link com.datastax.driver.core.Session} bean
+     * @see CassandraTemplate#stream(Statement, int)
+     */
+    <T> Stream<T> stream(String query, int fetchSize, Object... params) throws NullPointerException,
+            IllegalArgumentException, UnsupportedOperationException;
+
+    /**
+     * Executes a statement returning a single page with at most fetchSize entities. To resume from the next page
+     * set {@link CassandraPage#getPagingState()} on the statement, even from another request.
+     *
+     * @param <T>       type
+     * @param statement the statement
+     * @param fetchSize the number of rows per page
+     * @return the page
+     * @throws NullPointerException          when statement is null
+     * @throws IllegalArgumentException      when fetchSize is lesser than one
+     * @throws UnsupportedOperationException when there is no {@link com.datastax.driver.core.Session} bean
+     */
+    <T> CassandraPage<T> page(Statement statement, int fetchSize) throws NullPointerException,
+            IllegalArgumentException, UnsupportedOperationException;
+
+    /**
+     * Scans the whole table querying its token sub ranges one after the other, see {@link CassandraScan}.
+     * The result is a lazy sequential stream, each sub range is queried only when the previous one is exhausted and
+     * is paged by the driver as the stream is consumed.
+     * To query sub ranges at the same time use either {@link #scan(CassandraScan, int, Consumer)} or
+     * {@link #scan(CassandraScan, Executor, Consumer)}.
+     *
+     * @param <T>  type
+     * @param scan the scan definition
+     * @return the entities of the table
+     * @throws NullPointerException          when scan is null
+     * @throws UnsupportedOperationException when there is no {@link com.datastax.driver.core.Session} bean
+     */
+    <T> Stream<T> scan(CassandraScan scan) throws NullPointerException, UnsupportedOperationException;
+
+    /**
+     * Scans the whole table querying at most parallelism token sub ranges at the same time.
+     * The sub ranges run on a pool dedicated to this scan, which is shut down once the scan returns.
+     * The callback is called once per sub range, from several threads, with a lazy stream that must be consumed
+     * inside the callback. This method returns once every sub range is done.
+     *
+     * @param <T>         type
+     * @param scan        the scan definition
+     * @param parallelism the number of sub ranges queried at the same time
+     * @param callBack    the callback of each sub range
+     * @throws NullPointerException          when either scan or callBack are null
+     * @throws IllegalArgumentException      when parallelism is lesser than one
+     * @throws UnsupportedOperationException when there is no {@link com.datastax.driver.core.Session} bean
+     */
+    <T> void scan(CassandraScan scan, int parallelism, Consumer<Stream<T>> callBack) throws NullPointerException,
+            IllegalArgumentException, UnsupportedOperationException;
+
+    /**
+     * Scans the whole table submitting one task per token sub range to the executor, so the executor defines
+     * how many sub ranges are queried at the same time. The executor is not shut down by this method.
+     * The callback is called once per sub range with a lazy stream that must be consumed inside the callback.
+     * This method returns once every sub range is done.
+     *
+     * @param <T>      type
+     * @param scan     the scan definition
+     * @param executor the executor that queries the sub ranges
+     * @param callBack the callback of each sub range
+     * @throws NullPointerException          when either scan, executor or callBack are null
+     * @throws UnsupportedOperationException when there is no {@link com.datastax.driver.core.Session} bean
+     */
+    <T> void scan(CassandraScan scan, Executor executor, Consumer<Stream<T>> callBack) throws NullPointerException,
+            UnsupportedOperationException;
+
 }
@@ -102,6 +102,49 @@ public interface CassandraTemplateAsync extends ColumnTemplateAsync {
             throws ExecuteAsyncQueryException, NullPointerException;
 
 
+    /**
+     * Saves the entities keeping at most maxInFlight writes pending at the same time, the caller waits for
+     * a free slot before sending the next write. The callback is called once all writes are finished, on a
+     * thread of the bulk save instead of the driver I/O thread.
+     * A write that fails, at submission or asynchronously, is reported in {@link CassandraBulkResult#getFailures()}.
+     * It requires a {@link com.datastax.driver.core.Session} bean, and entities with UDT fields are reported
+     * as failures.
+     *
+     * @param <T>         the type
+     * @param entities    the entities
+     * @param level       {@link ConsistencyLevel}
+     * @param maxInFlight the maximum number of pending writes
+     * @param callBack    the callback with the saved entities and the failures
+     * @throws NullPointerException          when there are any element null
+     * @throws IllegalArgumentException      when maxInFlight is lesser than one
+     * @throws UnsupportedOperationException when there is no {@link com.datastax.driver.core.Session} bean
+     */
+    <T> void save(Iterable<T> entities, ConsistencyLevel level, int maxInFlight,
+                  Consumer<CassandraBulkResult<T>> callBack) throws NullPointerException, IllegalArgumentException,
+            UnsupportedOperationException;
+
+    /**
+     * Saves the entities with ttl keeping at most maxInFlight writes pending at the same time, the caller waits
+     * for a free slot before sending the next write. The callback is called once all writes are finished, on a
+     * thread of the bulk save instead of the driver I/O thread.
+     * A write that fails, at submission or asynchronously, is reported in {@link CassandraBulkResult#getFailures()}.
+     * It requires a {@link com.datastax.driver.core.Session} bean, and entities with UDT fields are reported
+     * as failures.
+     *
+     * @param <T>         the type
+     * @param entities    the entities
+     * @param ttl         the ttl
+     * @param level       {@link ConsistencyLevel}
+     * @param maxInFlight the maximum number of pending writes
+     * @param callBack    the callback with the saved entities and the failures
+     * @throws NullPointerException          when there are any element null
+     * @throws IllegalArgumentException      when maxInFlight is lesser than one
+     * @throws UnsupportedOperationException when there is no {@link com.datastax.driver.core.Session} bean
+     */
+    <T> void save(Iterable<T> entities, Duration ttl, ConsistencyLevel level, int maxInFlight,
+                  Consumer<CassandraBulkResult<T>> callBack) throws NullPointerException, IllegalArgumentException,
+            UnsupportedOperationException;
+
     /**
      * Deletes an entity with consistency level
      *
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import com.datastax.driver.core.BatchStatement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Collections.unmodifiableList;
+
+class DefaultCassandraBatch implements CassandraBatch {
+
+    private final BatchStatement.Type type;
+
+    private final int maxSize;
+
+    private final List<String> partitionKeys;
+
+    DefaultCassandraBatch(BatchStatement.Type type, int maxSize, List<String> partitionKeys) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be greater than zero");
+        }
+        this.type = Objects.requireNonNull(type, "type is required");
+        this.maxSize = maxSize;
+        this.partitionKeys = unmodifiableList(new ArrayList<>(Objects.requireNonNull(partitionKeys,
+                "partitionKeys is required")));
+    }
+
+    @Override
+    public BatchStatement.Type getType() {
+        return type;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public List<String> getPartitionKeys() {
+        return partitionKeys;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultCassandraBatch)) {
+            return false;
+        }
+        DefaultCassandraBatch that = (DefaultCassandraBatch) o;
+        return maxSize == that.maxSize &&
+                type == that.type &&
+                Objects.equals(partitionKeys, that.partitionKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, maxSize, partitionKeys);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultCassandraBatch{");
+        sb.append("type=").append(type);
+        sb.append(", maxSize=").append(maxSize);
+        sb.append(", partitionKeys=").append(partitionKeys);
+        sb.append('}');
+        return sb.toString();
+    }
+}
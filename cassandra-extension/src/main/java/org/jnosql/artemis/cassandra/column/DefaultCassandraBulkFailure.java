@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+/**
+ * The default implementation of {@link CassandraBulkFailure}
+ *
+ * @param <T> the entity type
+ */
+class DefaultCassandraBulkFailure<T> implements CassandraBulkFailure<T> {
+
+    private final T entity;
+
+    private final Throwable cause;
+
+    DefaultCassandraBulkFailure(T entity, Throwable cause) {
+        this.entity = entity;
+        this.cause = cause;
+    }
+
+    @Override
+    public T getEntity() {
+        return entity;
+    }
+
+    @Override
+    public Throwable getCause() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultCassandraBulkFailure{");
+        sb.append("entity=").append(entity);
+        sb.append(", cause=").append(cause);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.Collections.unmodifiableList;
+
+class DefaultCassandraPage<T> implements CassandraPage<T> {
+
+    private final List<T> content;
+
+    private final String pagingState;
+
+    DefaultCassandraPage(List<T> content, String pagingState) {
+        this.content = unmodifiableList(Objects.requireNonNull(content, "content is required"));
+        this.pagingState = pagingState;
+    }
+
+    @Override
+    public List<T> getContent() {
+        return content;
+    }
+
+    @Override
+    public Optional<String> getPagingState() {
+        return Optional.ofNullable(pagingState);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultCassandraPage{");
+        sb.append("content=").append(content);
+        sb.append(", pagingState='").append(pagingState).append('\'');
+        sb.append('}');
+        return sb.toString();
+    }
+}
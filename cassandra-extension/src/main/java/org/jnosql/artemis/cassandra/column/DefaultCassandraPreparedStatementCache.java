@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import javax.enterprise.context.ApplicationScoped;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The default {@link CassandraPreparedStatementCache}. A
+ * {@link org.jnosql.diana.cassandra.column.CassandraPrepareStatment} keeps the bound values
+ * until it is executed, so it cannot be shared by two threads at the same time: each query holds a pool of
+ * statements, a caller borrows one, binds and executes it, and gives it back.
+ * The pools are kept to each manager type, not to each manager instance, so the managers of a dependent producer,
+ * a new one at each injection, share them; those managers are expected to use the same driver session.
+ */
+@ApplicationScoped
+class DefaultCassandraPreparedStatementCache implements CassandraPreparedStatementCache {
+
+    static final int DEFAULT_MAX_SIZE = 1_000;
+
+    private static final int MAX_IDLE_PER_QUERY = 32;
+
+    private final Map<Key, Queue<Object>> statements;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    DefaultCassandraPreparedStatementCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    DefaultCassandraPreparedStatementCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be greater than zero");
+        }
+        this.statements = new LinkedHashMap<Key, Queue<Object>>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Queue<Object>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Runs the action with a prepared statement of the query, preparing a new one when there is none available.
+     *
+     * @param manager the manager type that prepares the statement, either the sync or the async one
+     * @param query   the query
+     * @param prepare prepares a new statement
+     * @param action  the action that binds and executes the statement
+     * @param <S>     the statement type
+     * @param <T>     the result type
+     * @return the action result
+     */
+    <S, T> T execute(Class<?> manager, String query, Supplier<S> prepare, Function<S, T> action) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(query, "query is required");
+        Queue<Object> pool = getPool(new Key(manager, query));
+        S statement = (S) pool.poll();
+        if (statement == null) {
+            misses.incrementAndGet();
+            statement = prepare.get();
+        } else {
+            hits.incrementAndGet();
+        }
+        try {
+            return action.apply(statement);
+        } finally {
+            giveBack(pool, statement);
+        }
+    }
+
+    /**
+     * Prepares the query ahead of its first execution
+     *
+     * @param manager the manager type that prepares the statement, either the sync or the async one
+     * @param query   the query
+     * @param prepare prepares a new statement
+     */
+    void prepare(Class<?> manager, String query, Supplier<?> prepare) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(query, "query is required");
+        Queue<Object> pool = getPool(new Key(manager, query));
+        if (pool.isEmpty()) {
+            misses.incrementAndGet();
+            giveBack(pool, prepare.get());
+        }
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    @Override
+    public synchronized int size() {
+        return statements.size();
+    }
+
+    @Override
+    public synchronized void clear() {
+        statements.clear();
+    }
+
+    private synchronized Queue<Object> getPool(Key key) {
+        return statements.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>());
+    }
+
+    private void giveBack(Queue<Object> pool, Object statement) {
+        if (statement != null && pool.size() < MAX_IDLE_PER_QUERY) {
+            pool.offer(statement);
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultCassandraPreparedStatementCache{");
+        sb.append("size=").append(size());
+        sb.append(", hits=").append(hits);
+        sb.append(", misses=").append(misses);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static final class Key {
+
+        private final Class<?> manager;
+
+        private final String query;
+
+        private Key(Class<?> manager, String query) {
+            this.manager = manager;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return manager.equals(key.manager) && query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * manager.hashCode() + query.hashCode();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Collections.unmodifiableList;
+
+class DefaultCassandraScan implements CassandraScan {
+
+    private static final BigInteger MIN_TOKEN = BigInteger.valueOf(Long.MIN_VALUE);
+
+    private static final BigInteger MAX_TOKEN = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private final String table;
+
+    private final int splits;
+
+    private final List<String> partitionKeys;
+
+    private final int fetchSize;
+
+    DefaultCassandraScan(String table, int splits, List<String> partitionKeys, int fetchSize) {
+        this.table = Objects.requireNonNull(table, "table is required");
+        Objects.requireNonNull(partitionKeys, "partitionKeys is required");
+        if (splits < 1) {
+            throw new IllegalArgumentException("splits must be greater than zero");
+        }
+        if (partitionKeys.isEmpty()) {
+            throw new IllegalArgumentException("at least one partition key is required");
+        }
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be greater than zero");
+        }
+        this.splits = splits;
+        this.partitionKeys = unmodifiableList(new ArrayList<>(partitionKeys));
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public String getTable() {
+        return table;
+    }
+
+    @Override
+    public List<String> getPartitionKeys() {
+        return partitionKeys;
+    }
+
+    @Override
+    public int getSplits() {
+        return splits;
+    }
+
+    @Override
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    @Override
+    public CassandraScan withFetchSize(int fetchSize) throws IllegalArgumentException {
+        return new DefaultCassandraScan(table, splits, partitionKeys, fetchSize);
+    }
+
+    /**
+     * Returns the CQL of a single sub range, it takes the lower, exclusive, and the upper, inclusive, tokens.
+     */
+    static String getQuery(CassandraScan scan) {
+        String token = "token(" + String.join(", ", scan.getPartitionKeys()) + ')';
+        return "SELECT * FROM " + scan.getTable() + " WHERE " + token + " > ? AND " + token + " <= ?";
+    }
+
+    /**
+     * Splits the Murmur3 token ring in contiguous sub ranges, each one as {lower, upper}.
+     * The lowest token, Long.MIN_VALUE, is never assigned to a partition, so the first range may exclude it.
+     */
+    static List<Long[]> getRanges(int splits) {
+        BigInteger width = MAX_TOKEN.subtract(MIN_TOKEN).divide(BigInteger.valueOf(splits));
+        List<Long[]> ranges = new ArrayList<>(splits);
+        BigInteger lower = MIN_TOKEN;
+        for (int index = 0; index < splits; index++) {
+            BigInteger upper = index == splits - 1 ? MAX_TOKEN : lower.add(width);
+            ranges.add(new Long[]{lower.longValue(), upper.longValue()});
+            lower = upper;
+        }
+        return ranges;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultCassandraScan)) {
+            return false;
+        }
+        DefaultCassandraScan that = (DefaultCassandraScan) o;
+        return splits == that.splits &&
+                fetchSize == that.fetchSize &&
+                Objects.equals(table, that.table) &&
+                Objects.equals(partitionKeys, that.partitionKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(table, splits, partitionKeys, fetchSize);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultCassandraScan{");
+        sb.append("table='").append(table).append('\'');
+        sb.append(", splits=").append(splits);
+        sb.append(", partitionKeys=").append(partitionKeys);
+        sb.append(", fetchSize=").append(fetchSize);
+        sb.append('}');
+        return sb.toString();
+    }
+}
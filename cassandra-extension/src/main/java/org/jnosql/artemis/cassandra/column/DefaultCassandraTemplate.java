@@ -16,6 +16,10 @@ package org.jnosql.artemis.cassandra.column;
 
 
 import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.column.AbstractColumnTemplate;
@@ -28,17 +32,27 @@ import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnFamilyManager;
 import org.jnosql.diana.api.column.ColumnQuery;
 import org.jnosql.diana.cassandra.column.CassandraColumnFamilyManager;
-import org.jnosql.diana.cassandra.column.CassandraPrepareStatment;
 
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Typed;
 import javax.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 @Typed(CassandraTemplate.class)
@@ -56,19 +70,27 @@ class DefaultCassandraTemplate extends AbstractColumnTemplate implements Cassand
 
     private Converters converters;
 
+    private DefaultCassandraPreparedStatementCache statementCache;
+
+    private Instance<Session> session;
+
     @Inject
     DefaultCassandraTemplate(Instance<CassandraColumnFamilyManager> manager,
                              CassandraColumnEntityConverter converter,
                              CassandraColumnWorkflow flow,
                              ColumnEventPersistManager persistManager,
                              ClassRepresentations classRepresentations,
-                             Converters converters) {
+                             Converters converters,
+                             DefaultCassandraPreparedStatementCache statementCache,
+                             Instance<Session> session) {
         this.manager = manager;
         this.converter = converter;
         this.flow = flow;
         this.persistManager = persistManager;
         this.classRepresentations = classRepresentations;
         this.converters = converters;
+        this.statementCache = statementCache;
+        this.session = session;
     }
 
     DefaultCassandraTemplate() {
@@ -139,6 +161,19 @@ class DefaultCassandraTemplate extends AbstractColumnTemplate implements Cassand
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public <T> Iterable<T> save(Iterable<T> entities, Duration ttl, ConsistencyLevel level, CassandraBatch batch)
+            throws NullPointerException {
+        Objects.requireNonNull(ttl, "ttl is required");
+        return saveBatch(entities, Optional.of(ttl), level, batch);
+    }
+
+    @Override
+    public <T> Iterable<T> save(Iterable<T> entities, ConsistencyLevel level, CassandraBatch batch)
+            throws NullPointerException {
+        return saveBatch(entities, Optional.empty(), level, batch);
+    }
+
     @Override
     public <T> T save(T entity, Duration ttl, ConsistencyLevel level) throws NullPointerException {
         Objects.requireNonNull(entity, "entity is required");
@@ -184,8 +219,9 @@ class DefaultCassandraTemplate extends AbstractColumnTemplate implements Cassand
     @Override
     public <T> List<T> cql(String query, Object... params) throws NullPointerException {
         Objects.requireNonNull(query, "query is required");
-        CassandraPrepareStatment cassandraPrepareStatment = manager.get().nativeQueryPrepare(query);
-        List<ColumnEntity> entities = cassandraPrepareStatment.bind(params).executeQuery();
+        CassandraColumnFamilyManager cassandraManager = manager.get();
+        List<ColumnEntity> entities = statementCache.execute(CassandraColumnFamilyManager.class, query,
+                () -> cassandraManager.nativeQueryPrepare(query), s -> s.bind(params).executeQuery());
         return entities.stream().map(converter::toEntity).map(e -> (T) e).collect(Collectors.toList());
     }
 
@@ -196,5 +232,145 @@ class DefaultCassandraTemplate extends AbstractColumnTemplate implements Cassand
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public <T> Stream<T> stream(Statement statement, int fetchSize) throws NullPointerException,
+            IllegalArgumentException, UnsupportedOperationException {
+        Objects.requireNonNull(statement, "statement is required");
+        checkFetchSize(fetchSize);
+        if (isSessionUnavailable()) {
+            throw new UnsupportedOperationException("The stream requires a Session bean");
+        }
+        ResultSet resultSet = session.get().execute(statement.setFetchSize(fetchSize));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(resultSet.iterator(), Spliterator.ORDERED),
+                false)
+                .map(CassandraRowUtil::toEntity)
+                .map(c -> (T) converter.toEntity(c));
+    }
+
+    @Override
+    public <T> Stream<T> stream(String query, int fetchSize, Object... params) throws NullPointerException,
+            IllegalArgumentException, UnsupportedOperationException {
+        Objects.requireNonNull(query, "query is required");
+        return stream(new SimpleStatement(query, params), fetchSize);
+    }
+
+    @Override
+    public <T> CassandraPage<T> page(Statement statement, int fetchSize) throws NullPointerException,
+            IllegalArgumentException, UnsupportedOperationException {
+        Objects.requireNonNull(statement, "statement is required");
+        checkFetchSize(fetchSize);
+        if (isSessionUnavailable()) {
+            throw new UnsupportedOperationException("The page requires a Session bean");
+        }
+        ResultSet resultSet = session.get().execute(statement.setFetchSize(fetchSize));
+        int available = resultSet.getAvailableWithoutFetching();
+        List<T> content = new ArrayList<>(available);
+        for (int index = 0; index < available; index++) {
+            content.add((T) converter.toEntity(CassandraRowUtil.toEntity(resultSet.one())));
+        }
+        PagingState pagingState = resultSet.getExecutionInfo().getPagingState();
+        return new DefaultCassandraPage<>(content, pagingState == null ? null : pagingState.toString());
+    }
+
+    @Override
+    public <T> Stream<T> scan(CassandraScan scan) throws NullPointerException, UnsupportedOperationException {
+        Objects.requireNonNull(scan, "scan is required");
+        checkScanSession();
+        String query = DefaultCassandraScan.getQuery(scan);
+        CassandraScanIterator<T> entities = new CassandraScanIterator<>(
+                DefaultCassandraScan.getRanges(scan.getSplits()).iterator(),
+                r -> this.<T>stream(query, scan.getFetchSize(), r));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(entities, Spliterator.ORDERED), false)
+                .onClose(entities::close);
+    }
+
+    @Override
+    public <T> void scan(CassandraScan scan, int parallelism, Consumer<Stream<T>> callBack)
+            throws NullPointerException, IllegalArgumentException, UnsupportedOperationException {
+        Objects.requireNonNull(scan, "scan is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than zero");
+        }
+        checkScanSession();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, scan.getSplits()));
+        try {
+            scan(scan, executor, callBack);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public <T> void scan(CassandraScan scan, Executor executor, Consumer<Stream<T>> callBack)
+            throws NullPointerException, UnsupportedOperationException {
+        Objects.requireNonNull(scan, "scan is required");
+        Objects.requireNonNull(executor, "executor is required");
+        Objects.requireNonNull(callBack, "callBack is required");
+        checkScanSession();
+        String query = DefaultCassandraScan.getQuery(scan);
+        List<Long[]> ranges = DefaultCassandraScan.getRanges(scan.getSplits());
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[ranges.size()];
+        for (int index = 0; index < futures.length; index++) {
+            Object[] range = ranges.get(index);
+            futures[index] = CompletableFuture.runAsync(() -> {
+                try (Stream<T> entities = this.<T>stream(query, scan.getFetchSize(), range)) {
+                    callBack.accept(entities);
+                }
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The scan was interrupted", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private void checkScanSession() {
+        if (isSessionUnavailable()) {
+            throw new UnsupportedOperationException("The scan requires a Session bean");
+        }
+    }
+
+    private boolean isSessionUnavailable() {
+        return session.isUnsatisfied() || session.isAmbiguous();
+    }
+
+    private void checkFetchSize(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be greater than zero");
+        }
+    }
+
+    private <T> Iterable<T> saveBatch(Iterable<T> entities, Optional<Duration> ttl, ConsistencyLevel level,
+                                      CassandraBatch batch) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(level, "level is required");
+        Objects.requireNonNull(batch, "batch is required");
+
+        CassandraBatchWriter writer = new CassandraBatchWriter(batch, ttl, level, manager.get()::execute);
+        List<T> saved = new ArrayList<>();
+        for (T entity : entities) {
+            ColumnEntity column = converter.toColumn(entity);
+            if (CassandraBatchUtil.isBatchable(column)) {
+                writer.add(column);
+                saved.add(entity);
+            } else {
+                ColumnEntity result = ttl.map(t -> manager.get().save(column, t, level))
+                        .orElseGet(() -> manager.get().save(column, level));
+                saved.add((T) converter.toEntity(result));
+            }
+        }
+        writer.flush();
+        return saved;
+    }
+
 
 }
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.cassandra.column;
 
 import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.column.AbstractColumnTemplateAsync;
@@ -33,6 +34,7 @@ import javax.inject.Inject;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
@@ -55,17 +57,25 @@ class DefaultCassandraTemplateAsync extends AbstractColumnTemplateAsync
 
     private Converters converters;
 
+    private DefaultCassandraPreparedStatementCache statementCache;
+
+    private Instance<Session> session;
+
     DefaultCassandraTemplateAsync() {
     }
 
     @Inject
     DefaultCassandraTemplateAsync(CassandraColumnEntityConverter converter,
                                   Instance<CassandraColumnFamilyManagerAsync> managerAsync,
-                                  ClassRepresentations classRepresentations, Converters converters) {
+                                  ClassRepresentations classRepresentations, Converters converters,
+                                  DefaultCassandraPreparedStatementCache statementCache,
+                                  Instance<Session> session) {
         this.converter = converter;
         this.managerAsync = managerAsync;
         this.classRepresentations = classRepresentations;
         this.converters = converters;
+        this.statementCache = statementCache;
+        this.session = session;
     }
 
     @Override
@@ -134,6 +144,25 @@ class DefaultCassandraTemplateAsync extends AbstractColumnTemplateAsync
                 .forEach(c -> managerAsync.get().save(c, ttl, level));
     }
 
+    @Override
+    public <T> void save(Iterable<T> entities, ConsistencyLevel level, int maxInFlight,
+                         Consumer<CassandraBulkResult<T>> callBack) throws NullPointerException, IllegalArgumentException {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(level, "level is required");
+        requireNonNull(callBack, "callBack is required");
+        bulkSave(entities, Optional.empty(), level, maxInFlight, callBack);
+    }
+
+    @Override
+    public <T> void save(Iterable<T> entities, Duration ttl, ConsistencyLevel level, int maxInFlight,
+                         Consumer<CassandraBulkResult<T>> callBack) throws NullPointerException, IllegalArgumentException {
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        requireNonNull(level, "level is required");
+        requireNonNull(callBack, "callBack is required");
+        bulkSave(entities, Optional.of(ttl), level, maxInFlight, callBack);
+    }
+
     @Override
     public <T> void save(T entity, Duration ttl, ConsistencyLevel level, Consumer<T> callBack)
             throws ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException {
@@ -201,7 +230,11 @@ class DefaultCassandraTemplateAsync extends AbstractColumnTemplateAsync
                         .map(getConverter()::toEntity)
                         .map(o -> (T) o)
                         .collect(toList()));
-        managerAsync.get().nativeQueryPrepare(query).bind(params).executeQueryAsync(dianaCallBack);
+        CassandraColumnFamilyManagerAsync manager = managerAsync.get();
+        statementCache.execute(CassandraColumnFamilyManagerAsync.class, query, () -> manager.nativeQueryPrepare(query), s -> {
+            s.bind(params).executeQueryAsync(dianaCallBack);
+            return null;
+        });
     }
 
     @Override
@@ -216,5 +249,21 @@ class DefaultCassandraTemplateAsync extends AbstractColumnTemplateAsync
         managerAsync.get().execute(statement, dianaCallBack);
     }
 
+    private <T> void bulkSave(Iterable<T> entities, Optional<Duration> ttl, ConsistencyLevel level, int maxInFlight,
+                              Consumer<CassandraBulkResult<T>> callBack) {
+        if (session.isUnsatisfied() || session.isAmbiguous()) {
+            throw new UnsupportedOperationException("The bulk save requires a Session bean");
+        }
+        CassandraBulkSave<T> bulkSave = new CassandraBulkSave<>(maxInFlight, callBack);
+        Session cassandraSession = session.get();
+        bulkSave.save(entities, entity -> {
+            ColumnEntity column = converter.toColumn(entity);
+            if (!CassandraBatchUtil.isBatchable(column)) {
+                throw new UnsupportedOperationException("The bulk save does not support UDT fields: " + entity);
+            }
+            Statement insert = CassandraBatchUtil.insert(column, ttl).setConsistencyLevel(level);
+            return cassandraSession.executeAsync(insert);
+        });
+    }
 
 }
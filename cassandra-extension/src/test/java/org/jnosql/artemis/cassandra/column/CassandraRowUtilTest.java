@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+import org.jnosql.diana.api.column.Column;
+import org.jnosql.diana.api.column.ColumnEntity;
+import org.jnosql.diana.cassandra.column.UDT;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CassandraRowUtilTest {
+
+    @Test
+    public void shouldConvertPlainColumns() {
+        Row row = row("Person", "name", "age");
+        when(row.getObject("name")).thenReturn("Ada");
+        when(row.getObject("age")).thenReturn(20);
+
+        ColumnEntity entity = CassandraRowUtil.toEntity(row);
+        assertEquals("Person", entity.getName());
+        assertThat(entity.getColumns(), containsInAnyOrder(Column.of("name", "Ada"), Column.of("age", 20)));
+    }
+
+    @Test
+    public void shouldIgnoreNullColumns() {
+        Row row = row("Person", "name", "age");
+        when(row.getObject("name")).thenReturn("Ada");
+
+        ColumnEntity entity = CassandraRowUtil.toEntity(row);
+        assertEquals(1, entity.size());
+        assertFalse(entity.find("age").isPresent());
+    }
+
+    @Test
+    public void shouldConvertUDT() {
+        Row row = row("Person", "name", "home");
+        when(row.getObject("name")).thenReturn("Ada");
+        UDTValue home = address("California", "Street");
+        when(row.getObject("home")).thenReturn(home);
+
+        ColumnEntity entity = CassandraRowUtil.toEntity(row);
+        assertEquals("Ada", entity.find("name").get().get());
+        Column column = entity.find("home").get();
+        assertTrue(column instanceof UDT);
+        UDT udt = UDT.class.cast(column);
+        assertEquals("address", udt.getUserType());
+        assertEquals("home", udt.getName());
+        assertThat((List<Column>) udt.get(),
+                containsInAnyOrder(Column.of("city", "California"), Column.of("street", "Street")));
+    }
+
+    @Test
+    public void shouldConvertListOfUDT() {
+        Row row = row("Person", "homes");
+        UDTValue california = address("California", "Street");
+        UDTValue salvador = address("Salvador", "Jose Anasoh");
+        when(row.getObject("homes")).thenReturn(asList(california, salvador));
+
+        ColumnEntity entity = CassandraRowUtil.toEntity(row);
+        Column column = entity.find("homes").get();
+        assertTrue(column instanceof UDT);
+        UDT udt = UDT.class.cast(column);
+        assertEquals("address", udt.getUserType());
+        assertEquals("homes", udt.getName());
+        List<List<Column>> homes = (List<List<Column>>) udt.get();
+        assertThat(homes, contains(asList(Column.of("city", "California"), Column.of("street", "Street")),
+                asList(Column.of("city", "Salvador"), Column.of("street", "Jose Anasoh"))));
+    }
+
+    @Test
+    public void shouldKeepListOfPlainValues() {
+        Row row = row("Person", "phones");
+        when(row.getObject("phones")).thenReturn(asList("123", "456"));
+
+        ColumnEntity entity = CassandraRowUtil.toEntity(row);
+        Column column = entity.find("phones").get();
+        assertFalse(column instanceof UDT);
+        assertEquals(asList("123", "456"), column.get());
+    }
+
+    private Row row(String table, String... names) {
+        ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+        List<ColumnDefinitions.Definition> columns = new ArrayList<>();
+        for (String name : names) {
+            ColumnDefinitions.Definition definition = mock(ColumnDefinitions.Definition.class);
+            when(definition.getName()).thenReturn(name);
+            columns.add(definition);
+        }
+        when(definitions.getTable(0)).thenReturn(table);
+        when(definitions.iterator()).thenAnswer(i -> columns.iterator());
+        Row row = mock(Row.class);
+        when(row.getColumnDefinitions()).thenReturn(definitions);
+        return row;
+    }
+
+    private UDTValue address(String city, String street) {
+        UserType.Field cityField = mock(UserType.Field.class);
+        when(cityField.getName()).thenReturn("city");
+        UserType.Field streetField = mock(UserType.Field.class);
+        when(streetField.getName()).thenReturn("street");
+        UserType type = mock(UserType.class);
+        when(type.getTypeName()).thenReturn("address");
+        when(type.iterator()).thenAnswer(i -> asList(cityField, streetField).iterator());
+        UDTValue udt = mock(UDTValue.class);
+        when(udt.getType()).thenReturn(type);
+        when(udt.getObject("city")).thenReturn(city);
+        when(udt.getObject("street")).thenReturn(street);
+        return udt;
+    }
+}
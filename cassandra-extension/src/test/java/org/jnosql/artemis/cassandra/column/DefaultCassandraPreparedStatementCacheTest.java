@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.cassandra.column;
+
+import org.jnosql.diana.cassandra.column.CassandraColumnFamilyManager;
+import org.jnosql.diana.cassandra.column.CassandraColumnFamilyManagerAsync;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class DefaultCassandraPreparedStatementCacheTest {
+
+    private final Class<?> manager = CassandraColumnFamilyManager.class;
+
+    @Test
+    public void shouldReuseThePreparedStatement() {
+        DefaultCassandraPreparedStatementCache cache = new DefaultCassandraPreparedStatementCache();
+        AtomicInteger prepared = new AtomicInteger();
+        Supplier<Object> prepare = () -> {
+            prepared.incrementAndGet();
+            return new Object();
+        };
+        Object first = cache.execute(manager, "select * from Person where name = ?", prepare, s -> s);
+        Object second = cache.execute(manager, "select * from Person where name = ?", prepare, s -> s);
+
+        assertSame(first, second);
+        assertEquals(1, prepared.get());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void shouldNotShareAStatementInUse() {
+        DefaultCassandraPreparedStatementCache cache = new DefaultCassandraPreparedStatementCache();
+        String query = "select * from Person where name = ?";
+        List<Object> statements = new ArrayList<>();
+        cache.execute(manager, query, Object::new, outer -> {
+            statements.add(outer);
+            return cache.execute(manager, query, Object::new, statements::add);
+        });
+
+        assertEquals(2, statements.size());
+        assertNotSame(statements.get(0), statements.get(1));
+        assertEquals(2L, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldKeepStatementsPerManagerType() {
+        DefaultCassandraPreparedStatementCache cache = new DefaultCassandraPreparedStatementCache();
+        String query = "select * from Person where name = ?";
+        cache.execute(manager, query, Object::new, s -> s);
+        cache.execute(CassandraColumnFamilyManagerAsync.class, query, Object::new, s -> s);
+
+        assertEquals(2, cache.size());
+        assertEquals(2L, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldEvictTheEldestQuery() {
+        DefaultCassandraPreparedStatementCache cache = new DefaultCassandraPreparedStatementCache(1);
+        cache.execute(manager, "select * from Person where name = ?", Object::new, s -> s);
+        cache.execute(manager, "select * from Person where age = ?", Object::new, s -> s);
+        cache.execute(manager, "select * from Person where name = ?", Object::new, s -> s);
+
+        assertEquals(1, cache.size());
+        assertEquals(3L, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldPrepareAheadOfTheFirstExecution() {
+        DefaultCassandraPreparedStatementCache cache = new DefaultCassandraPreparedStatementCache();
+        String query = "select * from Person where name = ?";
+        cache.prepare(manager, query, Object::new);
+        cache.execute(manager, query, Object::new, s -> s);
+
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenMaxSizeIsInvalid() {
+        new DefaultCassandraPreparedStatementCache(0);
+    }
+}
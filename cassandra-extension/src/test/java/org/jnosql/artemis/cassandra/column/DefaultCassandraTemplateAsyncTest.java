@@ -15,8 +15,13 @@
 package org.jnosql.artemis.cassandra.column;
 
 import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.diana.api.column.Column;
@@ -34,15 +39,30 @@ import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import java.time.Duration;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static java.util.Arrays.asList;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.delete;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(CDIJUnitRunner.class)
 public class DefaultCassandraTemplateAsyncTest {
@@ -58,6 +78,10 @@ public class DefaultCassandraTemplateAsyncTest {
 
     private CassandraColumnFamilyManagerAsync managerAsync;
 
+    private Session session;
+
+    private Instance<Session> sessionInstance;
+
     private CassandraTemplateAsync templateAsync;
 
     @Before
@@ -65,7 +89,11 @@ public class DefaultCassandraTemplateAsyncTest {
         managerAsync = Mockito.mock(CassandraColumnFamilyManagerAsync.class);
         Instance instance = Mockito.mock(Instance.class);
         Mockito.when(instance.get()).thenReturn(managerAsync);
-        templateAsync = new DefaultCassandraTemplateAsync(converter, instance, classRepresentations, converters);
+        session = Mockito.mock(Session.class);
+        sessionInstance = Mockito.mock(Instance.class);
+        Mockito.when(sessionInstance.get()).thenReturn(session);
+        templateAsync = new DefaultCassandraTemplateAsync(converter, instance, classRepresentations, converters,
+                new DefaultCassandraPreparedStatementCache(), sessionInstance);
     }
 
     @Test
@@ -182,4 +210,184 @@ public class DefaultCassandraTemplateAsyncTest {
         templateAsync.execute(statement, callBack);
         verify(managerAsync).execute(eq(statement), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldSaveBulkAndReportFailures() {
+        AtomicInteger writes = new AtomicInteger();
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            if (writes.incrementAndGet() == 2) {
+                throw new IllegalStateException("rejected");
+            }
+            ResultFuture future = new ResultFuture();
+            future.set(null);
+            return future;
+        });
+
+        AtomicReference<CassandraBulkResult<Person>> result = new AtomicReference<>();
+        Person poliana = new Person("Poliana", 30);
+        templateAsync.save(asList(new Person("Ada", 20), poliana, new Person("Otavio", 20)), ConsistencyLevel.THREE,
+                2, result::set);
+
+        awaitResult(result);
+        assertFalse(result.get().isSuccess());
+        assertEquals(asList(new Person("Ada", 20), new Person("Otavio", 20)), result.get().getSaved());
+        assertEquals(1, result.get().getFailures().size());
+        assertEquals(poliana, result.get().getFailures().get(0).getEntity());
+        assertEquals(IllegalStateException.class, result.get().getFailures().get(0).getCause().getClass());
+    }
+
+    @Test
+    public void shouldReleaseWindowWhenWriteFailsAsynchronously() throws InterruptedException {
+        Queue<ResultFuture> pending = new ConcurrentLinkedQueue<>();
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            ResultFuture future = new ResultFuture();
+            pending.add(future);
+            return future;
+        });
+
+        AtomicReference<CassandraBulkResult<Person>> result = new AtomicReference<>();
+        Person ada = new Person("Ada", 20);
+        List<Person> people = asList(ada, new Person("Poliana", 30), new Person("Otavio", 20));
+        Thread writer = new Thread(() -> templateAsync.save(people, ConsistencyLevel.THREE, 1, result::set));
+        writer.start();
+
+        verify(session, timeout(1_000).times(1)).executeAsync(any(Statement.class));
+        pending.poll().setException(new IllegalStateException("timeout"));
+        verify(session, timeout(1_000).times(2)).executeAsync(any(Statement.class));
+        pending.poll().set(null);
+        verify(session, timeout(1_000).times(3)).executeAsync(any(Statement.class));
+        pending.poll().set(null);
+        writer.join(1_000L);
+
+        awaitResult(result);
+        assertEquals(asList(new Person("Poliana", 30), new Person("Otavio", 20)), result.get().getSaved());
+        assertEquals(ada, result.get().getFailures().get(0).getEntity());
+        assertEquals(IllegalStateException.class, result.get().getFailures().get(0).getCause().getClass());
+    }
+
+    @Test
+    public void shouldBoundInFlightWrites() throws InterruptedException {
+        Queue<ResultFuture> pending = new ConcurrentLinkedQueue<>();
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            ResultFuture future = new ResultFuture();
+            pending.add(future);
+            return future;
+        });
+
+        AtomicReference<CassandraBulkResult<Person>> result = new AtomicReference<>();
+        List<Person> people = asList(new Person("Ada", 20), new Person("Poliana", 30), new Person("Otavio", 20));
+        Thread writer = new Thread(() -> templateAsync.save(people, ConsistencyLevel.THREE, 2, result::set));
+        writer.start();
+
+        verify(session, timeout(1_000).times(2)).executeAsync(any(Statement.class));
+        awaitWaiting(writer);
+        verify(session, times(2)).executeAsync(any(Statement.class));
+
+        pending.poll().set(null);
+        verify(session, timeout(1_000).times(3)).executeAsync(any(Statement.class));
+        writer.join(1_000L);
+        assertNull(result.get());
+
+        pending.forEach(f -> f.set(null));
+        awaitResult(result);
+        assertEquals(3, result.get().getSaved().size());
+    }
+
+    @Test
+    public void shouldReportEachFailureOfEqualEntities() {
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            ResultFuture future = new ResultFuture();
+            future.setException(new IllegalStateException("timeout"));
+            return future;
+        });
+
+        AtomicReference<CassandraBulkResult<Person>> result = new AtomicReference<>();
+        templateAsync.save(asList(new Person("Ada", 20), new Person("Ada", 20)), ConsistencyLevel.THREE, 2,
+                result::set);
+
+        awaitResult(result);
+        assertEquals(2, result.get().getFailures().size());
+        assertTrue(result.get().getSaved().isEmpty());
+    }
+
+    @Test
+    public void shouldCallBackOutsideTheCompletingThread() {
+        Queue<ResultFuture> pending = new ConcurrentLinkedQueue<>();
+        when(session.executeAsync(any(Statement.class))).thenAnswer(invocation -> {
+            ResultFuture future = new ResultFuture();
+            pending.add(future);
+            return future;
+        });
+
+        AtomicReference<Thread> callBackThread = new AtomicReference<>();
+        AtomicReference<CassandraBulkResult<Person>> result = new AtomicReference<>();
+        templateAsync.save(asList(new Person("Ada", 20)), ConsistencyLevel.THREE, 1, r -> {
+            callBackThread.set(Thread.currentThread());
+            result.set(r);
+        });
+        pending.poll().set(null);
+
+        awaitResult(result);
+        assertNotEquals(Thread.currentThread(), callBackThread.get());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnErrorWhenBulkSaveHasNoSession() {
+        when(sessionInstance.isUnsatisfied()).thenReturn(true);
+        templateAsync.save(asList(new Person("Ada", 20)), ConsistencyLevel.THREE, 1, r -> {
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenMaxInFlightIsInvalid() {
+        templateAsync.save(asList(new Person("Ada", 20)), ConsistencyLevel.THREE, 0, r -> {
+        });
+    }
+
+    private void awaitResult(AtomicReference<CassandraBulkResult<Person>> result) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1L);
+        while (result.get() == null && System.nanoTime() < deadline) {
+            Uninterruptibles.sleepUninterruptibly(1L, TimeUnit.MILLISECONDS);
+        }
+        assertNotNull(result.get());
+    }
+
+    private void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1L);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1L);
+        }
+        assertEquals(Thread.State.WAITING, thread.getState());
+    }
+
+    private static class ResultFuture extends AbstractFuture<ResultSet> implements ResultSetFuture {
+
+        @Override
+        public boolean set(ResultSet value) {
+            return super.set(value);
+        }
+
+        @Override
+        public boolean setException(Throwable throwable) {
+            return super.setException(throwable);
+        }
+
+        @Override
+        public ResultSet getUninterruptibly() {
+            try {
+                return Uninterruptibles.getUninterruptibly(this);
+            } catch (ExecutionException exception) {
+                throw (RuntimeException) exception.getCause();
+            }
+        }
+
+        @Override
+        public ResultSet getUninterruptibly(long timeout, TimeUnit unit) throws TimeoutException {
+            try {
+                return Uninterruptibles.getUninterruptibly(this, timeout, unit);
+            } catch (ExecutionException exception) {
+                throw (RuntimeException) exception.getCause();
+            }
+        }
+    }
+}
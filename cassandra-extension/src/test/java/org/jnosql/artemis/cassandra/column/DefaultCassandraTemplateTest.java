@@ -14,7 +14,13 @@
  */
 package org.jnosql.artemis.cassandra.column;
 
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import org.hamcrest.Matchers;
@@ -26,6 +32,7 @@ import org.jnosql.diana.api.column.ColumnDeleteQuery;
 import org.jnosql.diana.api.column.ColumnEntity;
 import org.jnosql.diana.api.column.ColumnQuery;
 import org.jnosql.diana.cassandra.column.CassandraColumnFamilyManager;
+import org.jnosql.diana.cassandra.column.CassandraPrepareStatment;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -38,13 +45,20 @@ import javax.inject.Inject;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.delete;
 import static org.jnosql.diana.api.column.query.ColumnQueryBuilder.select;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -70,12 +84,20 @@ public class DefaultCassandraTemplateTest {
 
     private CassandraColumnFamilyManager manager;
 
+    private Session session;
+
+    private Instance sessionInstance;
+
     @Before
     public void setUp() {
         this.manager = mock(CassandraColumnFamilyManager.class);
+        this.session = mock(Session.class);
         Instance instance = mock(Instance.class);
         when(instance.get()).thenReturn(manager);
-        template = new DefaultCassandraTemplate(instance, converter, flow, persistManager, classRepresentations, converters);
+        sessionInstance = mock(Instance.class);
+        when(sessionInstance.get()).thenReturn(session);
+        template = new DefaultCassandraTemplate(instance, converter, flow, persistManager, classRepresentations, converters,
+                new DefaultCassandraPreparedStatementCache(), sessionInstance);
     }
 
 
@@ -165,6 +187,77 @@ public class DefaultCassandraTemplateTest {
         assertEquals(entity, captor.getValue());
     }
 
+    @Test
+    public void shouldSaveUnloggedBatchGroupedByPartitionKey() {
+        ConsistencyLevel level = ConsistencyLevel.QUORUM;
+        List<Person> people = asList(new Person("Ada", 20), new Person("Poliana", 30), new Person("Otavio", 20));
+
+        Iterable<Person> saved = template.save(people, level, CassandraBatch.unlogged(10, "age"));
+        assertThat(saved, Matchers.contains(people.toArray()));
+
+        ArgumentCaptor<BatchStatement> captor = ArgumentCaptor.forClass(BatchStatement.class);
+        verify(manager, times(2)).execute(captor.capture());
+        List<Integer> sizes = captor.getAllValues().stream().map(BatchStatement::size).collect(toList());
+        assertEquals(asList(2, 1), sizes);
+        assertEquals(level, captor.getValue().getConsistencyLevel());
+        verify(manager, never()).save(Mockito.any(ColumnEntity.class), Mockito.eq(level));
+    }
+
+    @Test
+    public void shouldSaveLoggedBatchWithMaxSize() {
+        Duration duration = Duration.ofHours(2);
+        ConsistencyLevel level = ConsistencyLevel.QUORUM;
+        List<Person> people = asList(new Person("Ada", 20), new Person("Poliana", 30), new Person("Otavio", 20));
+
+        template.save(people, duration, level, CassandraBatch.logged(2));
+
+        ArgumentCaptor<BatchStatement> captor = ArgumentCaptor.forClass(BatchStatement.class);
+        verify(manager, times(2)).execute(captor.capture());
+        List<Integer> sizes = captor.getAllValues().stream().map(BatchStatement::size).collect(toList());
+        assertEquals(asList(2, 1), sizes);
+    }
+
+    @Test
+    public void shouldSaveUDTOutsideTheBatch() {
+        ConsistencyLevel level = ConsistencyLevel.QUORUM;
+        ColumnEntity entity = ColumnEntity.of("Person", asList(Column.of("name", "Ada"), Column.of("age", 20)));
+        when(manager.save(Mockito.any(ColumnEntity.class), Mockito.eq(level))).thenReturn(entity);
+        Address address = new Address();
+        address.setCity("Salvador");
+        address.setStreet("Rua Engenheiro Jose Anasoh");
+        Person person = new Person("Ada", 20);
+        person.setHome(address);
+
+        template.save(Collections.singletonList(person), level, CassandraBatch.unlogged(10, "name"));
+
+        verify(manager).save(Mockito.any(ColumnEntity.class), Mockito.eq(level));
+        verify(manager, never()).execute(Mockito.any(Statement.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenBatchSizeIsInvalid() {
+        CassandraBatch.logged(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenUnloggedBatchHasNoPartitionKey() {
+        CassandraBatch.unlogged(10);
+    }
+
+    @Test
+    public void shouldExecuteEldestGroupWhenThereAreTooManyPartitions() {
+        ConsistencyLevel level = ConsistencyLevel.QUORUM;
+        List<Person> people = asList(new Person("Ada", 20), new Person("Poliana", 30), new Person("Otavio", 40),
+                new Person("Paulo", 20));
+
+        template.save(people, level, CassandraBatch.unlogged(2, "age"));
+
+        ArgumentCaptor<BatchStatement> captor = ArgumentCaptor.forClass(BatchStatement.class);
+        verify(manager, times(4)).execute(captor.capture());
+        List<Integer> sizes = captor.getAllValues().stream().map(BatchStatement::size).collect(toList());
+        assertEquals(asList(1, 1, 1, 1), sizes);
+    }
+
     @Test
     public void shouldDelete() {
 
@@ -205,6 +298,30 @@ public class DefaultCassandraTemplateTest {
         Assert.assertThat(people, Matchers.contains(person));
     }
     
+    @Test
+    public void shouldReusePreparedStatementAcrossManagers() {
+        String query = "select * from Person where name = ?";
+        ColumnEntity entity = ColumnEntity.of("Person", asList(Column.of("name", "Name"), Column.of("age", 20)));
+        CassandraPrepareStatment statement = mock(CassandraPrepareStatment.class);
+        when(statement.bind(Mockito.anyVararg())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(Collections.singletonList(entity));
+        CassandraColumnFamilyManager first = mock(CassandraColumnFamilyManager.class);
+        CassandraColumnFamilyManager second = mock(CassandraColumnFamilyManager.class);
+        when(first.nativeQueryPrepare(query)).thenReturn(statement);
+        when(second.nativeQueryPrepare(query)).thenReturn(statement);
+        Instance instance = mock(Instance.class);
+        when(instance.get()).thenReturn(first, second);
+        DefaultCassandraPreparedStatementCache cache = new DefaultCassandraPreparedStatementCache();
+        CassandraTemplate template = new DefaultCassandraTemplate(instance, converter, flow, persistManager,
+                classRepresentations, converters, cache, sessionInstance);
+
+        assertThat(template.<Person>cql(query, "Name"), Matchers.contains(new Person("Name", 20)));
+        assertThat(template.<Person>cql(query, "Name"), Matchers.contains(new Person("Name", 20)));
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        verify(second, never()).nativeQueryPrepare(query);
+    }
+
     @Test
     public void shouldFindStatment() {
         Statement statement = QueryBuilder.select().from("Person");
@@ -219,4 +336,187 @@ public class DefaultCassandraTemplateTest {
         Assert.assertThat(people, Matchers.contains(person));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldStreamWithFetchSize() {
+        Statement statement = QueryBuilder.select().from("Person");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+        when(session.execute(statement)).thenReturn(resultSet);
+
+        try (Stream<Person> people = template.stream(statement, 100)) {
+            assertEquals(0L, people.count());
+        }
+        assertEquals(100, statement.getFetchSize());
+        verify(session).execute(statement);
+    }
+
+    @Test
+    public void shouldConvertEachRowOfTheStream() {
+        Statement statement = QueryBuilder.select().from("Person");
+        ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+        ColumnDefinitions.Definition name = mock(ColumnDefinitions.Definition.class);
+        ColumnDefinitions.Definition age = mock(ColumnDefinitions.Definition.class);
+        when(name.getName()).thenReturn("name");
+        when(age.getName()).thenReturn("age");
+        when(definitions.getTable(0)).thenReturn("Person");
+        when(definitions.iterator()).thenAnswer(i -> asList(name, age).iterator());
+        Row ada = mock(Row.class);
+        when(ada.getColumnDefinitions()).thenReturn(definitions);
+        when(ada.getObject("name")).thenReturn("Ada");
+        when(ada.getObject("age")).thenReturn(20);
+        Row poliana = mock(Row.class);
+        when(poliana.getColumnDefinitions()).thenReturn(definitions);
+        when(poliana.getObject("name")).thenReturn("Poliana");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.iterator()).thenReturn(asList(ada, poliana).iterator());
+        when(session.execute(statement)).thenReturn(resultSet);
+
+        try (Stream<Person> people = template.stream(statement, 100)) {
+            assertThat(people.collect(toList()), Matchers.contains(new Person("Ada", 20),
+                    new Person("Poliana", null)));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnErrorWhenStreamHasNoSession() {
+        when(sessionInstance.isUnsatisfied()).thenReturn(true);
+        template.stream(QueryBuilder.select().from("Person"), 100);
+    }
+
+    @Test
+    public void shouldReturnLastPage() {
+        Statement statement = QueryBuilder.select().from("Person");
+        ResultSet resultSet = mock(ResultSet.class);
+        ExecutionInfo info = mock(ExecutionInfo.class);
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+        when(resultSet.getExecutionInfo()).thenReturn(info);
+        when(session.execute(statement)).thenReturn(resultSet);
+
+        CassandraPage<Person> page = template.page(statement, 10);
+        assertEquals(Collections.emptyList(), page.getContent());
+        assertFalse(page.getPagingState().isPresent());
+        assertEquals(10, statement.getFetchSize());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnErrorWhenPageHasNoSession() {
+        when(sessionInstance.isUnsatisfied()).thenReturn(true);
+        template.page(QueryBuilder.select().from("Person"), 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenFetchSizeIsInvalid() {
+        template.stream("select * from Person", 0);
+    }
+
+    @Test
+    public void shouldSplitTheTokenRing() {
+        List<Long[]> ranges = DefaultCassandraScan.getRanges(4);
+        assertEquals(4, ranges.size());
+        assertEquals(Long.valueOf(Long.MIN_VALUE), ranges.get(0)[0]);
+        assertEquals(Long.valueOf(Long.MAX_VALUE), ranges.get(3)[1]);
+        for (int index = 1; index < ranges.size(); index++) {
+            assertEquals(ranges.get(index - 1)[1], ranges.get(index)[0]);
+        }
+    }
+
+    @Test
+    public void shouldCreateTheScanQuery() {
+        assertEquals("SELECT * FROM Person WHERE token(name) > ? AND token(name) <= ?",
+                DefaultCassandraScan.getQuery(CassandraScan.of("Person", 4, "name")));
+        assertEquals("SELECT * FROM History WHERE token(id, year) > ? AND token(id, year) <= ?",
+                DefaultCassandraScan.getQuery(CassandraScan.of("History", 4, "id", "year")));
+    }
+
+    @Test
+    public void shouldScanEachRange() {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+        when(session.execute(Mockito.any(Statement.class))).thenReturn(resultSet);
+
+        List<Person> people = template.<Person>scan(CassandraScan.of("Person", 4, "name")).collect(toList());
+        assertEquals(0, people.size());
+        verify(session, times(4)).execute(Mockito.any(Statement.class));
+        verify(manager, never()).execute(Mockito.any(Statement.class));
+    }
+
+    @Test
+    public void shouldQueryTheNextRangeOnlyWhenTheCurrentIsExhausted() {
+        ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+        ColumnDefinitions.Definition name = mock(ColumnDefinitions.Definition.class);
+        when(name.getName()).thenReturn("name");
+        when(definitions.getTable(0)).thenReturn("Person");
+        when(definitions.iterator()).thenAnswer(i -> Collections.singletonList(name).iterator());
+        Row row = mock(Row.class);
+        when(row.getColumnDefinitions()).thenReturn(definitions);
+        when(row.getObject("name")).thenReturn("Ada");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.iterator()).thenAnswer(i -> Collections.singletonList(row).iterator());
+        when(session.execute(Mockito.any(Statement.class))).thenReturn(resultSet);
+
+        try (Stream<Person> people = template.scan(CassandraScan.of("Person", 4, "name"))) {
+            assertEquals(new Person("Ada", null), people.findFirst().get());
+        }
+        verify(session, times(1)).execute(Mockito.any(Statement.class));
+    }
+
+    @Test
+    public void shouldScanWithCallBack() {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+        when(session.execute(Mockito.any(Statement.class))).thenReturn(resultSet);
+
+        AtomicInteger ranges = new AtomicInteger();
+        template.<Person>scan(CassandraScan.of("Person", 8, "name"), 2, people -> {
+            ranges.incrementAndGet();
+            assertEquals(0L, people.count());
+        });
+        assertEquals(8, ranges.get());
+        verify(session, times(8)).execute(Mockito.any(Statement.class));
+    }
+
+    @Test
+    public void shouldScanWithExecutor() {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+        when(session.execute(Mockito.any(Statement.class))).thenReturn(resultSet);
+
+        AtomicInteger tasks = new AtomicInteger();
+        AtomicInteger ranges = new AtomicInteger();
+        Executor executor = command -> {
+            tasks.incrementAndGet();
+            command.run();
+        };
+        template.<Person>scan(CassandraScan.of("Person", 3, "name"), executor, people -> ranges.incrementAndGet());
+        assertEquals(3, tasks.get());
+        assertEquals(3, ranges.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldReturnCallBackErrorWhenScanFails() {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+        when(session.execute(Mockito.any(Statement.class))).thenReturn(resultSet);
+
+        template.<Person>scan(CassandraScan.of("Person", 2, "name"), Runnable::run, people -> {
+            throw new IllegalStateException("callback error");
+        });
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnErrorWhenScanHasNoSession() {
+        when(sessionInstance.isUnsatisfied()).thenReturn(true);
+        template.scan(CassandraScan.of("Person", 4, "name"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnErrorWhenParallelScanHasNoSession() {
+        when(sessionInstance.isUnsatisfied()).thenReturn(true);
+        template.<Person>scan(CassandraScan.of("Person", 4, "name"), 2, people -> people.count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenScanHasNoPartitionKey() {
+        CassandraScan.of("Person", 4);
+    }
+}
@@ -14,25 +14,43 @@
  */
 package org.jnosql.artemis.graph;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.HaltedTraverserStrategy;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.EntityNotFoundException;
 import org.jnosql.artemis.IdNotFoundException;
+import org.jnosql.artemis.graph.util.EntityCacheUtil;
+import org.jnosql.artemis.graph.util.TinkerPopUtil;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.artemis.reflection.FieldRepresentation;
+import org.jnosql.artemis.reflection.Reflections;
 import org.jnosql.diana.api.Value;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static org.apache.tinkerpop.gremlin.structure.T.id;
 import static org.jnosql.artemis.graph.util.TinkerPopUtil.toArtemisVertex;
 import static org.jnosql.artemis.graph.util.TinkerPopUtil.toEdgeEntity;
@@ -45,6 +63,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
     private static final Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Edge>> INITIAL_EDGE =
             g -> (GraphTraversal<Vertex, Edge>) g;
 
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
 
     protected abstract Graph getGraph();
 
@@ -54,14 +73,20 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
 
     protected abstract GraphWorkflow getFlow();
 
+    protected abstract Reflections getReflections();
+
+    protected abstract Converters getConverters();
+
+    protected abstract Optional<EntityCache> getCache();
+
     @Override
     public <T> T insert(T entity) throws NullPointerException, IdNotFoundException {
         requireNonNull(entity, "entity is required");
         checkId(entity);
 
-        UnaryOperator<ArtemisVertex> save = e -> {
-            ArtemisVertex artemisVertex = getVertex().toVertex(entity);
+        UnaryOperator<ArtemisVertex> save = artemisVertex -> {
             Vertex vertex = toVertex(artemisVertex, getGraph());
+            invalidate(vertex);
             return toArtemisVertex(vertex);
         };
 
@@ -73,8 +98,7 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         requireNonNull(entity, "entity is required");
         checkId(entity);
 
-        UnaryOperator<ArtemisVertex> update = e -> {
-            ArtemisVertex artemisVertex = getVertex().toVertex(entity);
+        UnaryOperator<ArtemisVertex> update = artemisVertex -> {
             Object idValue = artemisVertex.getId()
                     .map(Value::get)
                     .orElseThrow(() -> new NullPointerException("Id field is required"));
@@ -87,31 +111,92 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
                             entity.getClass().getName(), idValue.toString())));
 
             artemisVertex.getProperties().forEach(p -> vertex.property(p.getKey(), p.get()));
+            invalidate(vertex);
             return artemisVertex;
         };
         return getFlow().flow(entity, update);
     }
 
+    @Override
+    public <T> BatchResult insert(Iterable<T> entities, int batchSize) throws NullPointerException,
+            IdNotFoundException, IllegalArgumentException {
+        requireNonNull(entities, "entities is required");
+        return batch(entities, batchSize, this::insert);
+    }
+
+    @Override
+    public <T> BatchResult insert(Iterable<T> entities) throws NullPointerException, IdNotFoundException {
+        return insert(entities, DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public <T> BatchResult update(Iterable<T> entities, int batchSize) throws NullPointerException,
+            IdNotFoundException, IllegalArgumentException {
+        requireNonNull(entities, "entities is required");
+        return batch(entities, batchSize, this::update);
+    }
+
+    @Override
+    public <T> BatchResult update(Iterable<T> entities) throws NullPointerException, IdNotFoundException {
+        return update(entities, DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public <T> T upsert(T entity) throws NullPointerException, IdNotFoundException {
+        requireNonNull(entity, "entity is required");
+        checkId(entity);
+
+        UnaryOperator<ArtemisVertex> upsert = artemisVertex -> {
+            Optional<Vertex> vertex = artemisVertex.getId()
+                    .map(Value::get)
+                    .flatMap(idValue -> getGraph().traversal().V(idValue).tryNext());
+
+            if (vertex.isPresent()) {
+                artemisVertex.getProperties().forEach(p -> vertex.get().property(p.getKey(), p.get()));
+                invalidate(vertex.get());
+                return artemisVertex;
+            }
+            Vertex inserted = toVertex(artemisVertex, getGraph());
+            invalidate(inserted);
+            return toArtemisVertex(inserted);
+        };
+        return getFlow().flow(entity, upsert);
+    }
+
     @Override
     public <T> void delete(T idValue) throws NullPointerException {
         requireNonNull(idValue, "id is required");
-        List<Vertex> vertices = getGraph().traversal().V(idValue).toList();
-        vertices.forEach(Vertex::remove);
-
+        traversal().V(idValue).drop().iterate();
     }
 
     @Override
     public <T> void deleteEdge(T idEdge) throws NullPointerException {
         requireNonNull(idEdge, "idEdge is required");
-        List<Edge> edges = getGraph().traversal().E(idEdge).toList();
-        edges.forEach(Edge::remove);
+        getGraph().traversal().E(idEdge).drop().iterate();
     }
 
     @Override
     public <T, ID> Optional<T> find(ID idValue) throws NullPointerException {
         requireNonNull(idValue, "id is required");
         Optional<Vertex> vertex = getGraph().traversal().V(idValue).tryNext();
-        return vertex.map(vertex1 -> getVertex().toEntity(toArtemisVertex(vertex1)));
+        return vertex.map(getVertex()::toEntity);
+    }
+
+    @Override
+    public <T, ID> Optional<T> find(Class<T> entityClass, ID idValue) throws NullPointerException {
+        requireNonNull(entityClass, "entityClass is required");
+        requireNonNull(idValue, "id is required");
+        String label = getClassRepresentations().get(entityClass).getName();
+        Optional<EntityCache> cache = getCache();
+        Optional<ArtemisVertex> cached = cache.flatMap(c -> c.get(label, idValue));
+        if (cached.isPresent()) {
+            return cached.map(v -> getVertex().toEntity(entityClass, v));
+        }
+
+        Optional<ArtemisVertex> vertex = getGraph().traversal().V(idValue).hasLabel(label).tryNext()
+                .map(TinkerPopUtil::toArtemisVertex);
+        cache.ifPresent(c -> vertex.ifPresent(c::put));
+        return vertex.map(v -> getVertex().toEntity(entityClass, v));
     }
 
     @Override
@@ -122,15 +207,8 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         requireNonNull(label, "label is required");
         requireNonNull(outbound, "outbound is required");
 
-        ArtemisVertex inboundVertex = getVertex().toVertex(incoming);
-        ArtemisVertex outboundVertex = getVertex().toVertex(outbound);
-
-        Object outboundId = outboundVertex.getId()
-                .map(Value::get)
-                .orElseThrow(() -> new NullPointerException("outbound Id field is required"));
-        Object inboundId = inboundVertex.getId()
-                .map(Value::get)
-                .orElseThrow(() -> new NullPointerException("inbound Id field is required"));
+        Object outboundId = getIdValue(outbound, "outbound Id field is required");
+        Object inboundId = getIdValue(incoming, "inbound Id field is required");
 
 
         Optional<Edge> edge = getGraph()
@@ -160,6 +238,69 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
 
     }
 
+    @Override
+    public <OUT, IN> Iterable<EdgeEntity<OUT, IN>> edges(Iterable<EdgeDefinition<OUT, IN>> definitions,
+                                                          boolean checkExistence)
+            throws NullPointerException, IdNotFoundException, EntityNotFoundException {
+
+        requireNonNull(definitions, "definitions is required");
+
+        List<EdgeDefinition<OUT, IN>> edges = new ArrayList<>();
+        List<Object> outboundIds = new ArrayList<>();
+        List<Object> inboundIds = new ArrayList<>();
+        for (EdgeDefinition<OUT, IN> definition : definitions) {
+            requireNonNull(definition, "definition is required");
+            outboundIds.add(getIdValue(definition.getOutbound(), "outbound Id field is required"));
+            inboundIds.add(getIdValue(definition.getInbound(), "inbound Id field is required"));
+            edges.add(definition);
+        }
+
+        if (edges.isEmpty()) {
+            return emptyList();
+        }
+
+        //the provider might convert the id type, so the vertices are matched by the id text
+        Set<Object> ids = new HashSet<>(outboundIds);
+        ids.addAll(inboundIds);
+        Map<String, Vertex> vertices = new HashMap<>();
+        getGraph().traversal().V(ids.toArray())
+                .forEachRemaining(v -> vertices.put(v.id().toString(), v));
+
+        List<Vertex> outVertices = new ArrayList<>(edges.size());
+        List<Vertex> inVertices = new ArrayList<>(edges.size());
+        for (int index = 0; index < edges.size(); index++) {
+            outVertices.add(findVertex(vertices, outboundIds.get(index), "outbound entity not found"));
+            inVertices.add(findVertex(vertices, inboundIds.get(index), "inbound entity not found"));
+        }
+
+        Map<List<Object>, Edge> existing = checkExistence ? findEdges(edges, outVertices, inVertices)
+                : new HashMap<>();
+
+        List<EdgeEntity<OUT, IN>> result = new ArrayList<>(edges.size());
+        for (int index = 0; index < edges.size(); index++) {
+            EdgeDefinition<OUT, IN> definition = edges.get(index);
+            Vertex outVertex = outVertices.get(index);
+            Vertex inVertex = inVertices.get(index);
+            List<Object> key = edgeKey(outVertex.id(), definition.getLabel(), inVertex.id());
+
+            Edge element = existing.get(key);
+            if (element == null) {
+                element = outVertex.addEdge(definition.getLabel(), inVertex);
+                if (checkExistence) {
+                    existing.put(key, element);
+                }
+            }
+            result.add(new DefaultEdgeEntity<>(element, definition.getInbound(), definition.getOutbound()));
+        }
+        return result;
+    }
+
+    @Override
+    public <OUT, IN> Iterable<EdgeEntity<OUT, IN>> edges(Iterable<EdgeDefinition<OUT, IN>> definitions)
+            throws NullPointerException, IdNotFoundException, EntityNotFoundException {
+        return edges(definitions, true);
+    }
+
     @Override
     public <OUT, IN, E> Optional<EdgeEntity<OUT, IN>> edge(E edgeId) throws NullPointerException {
         requireNonNull(edgeId, "edgeId is required");
@@ -174,12 +315,42 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         return Optional.empty();
     }
 
+    @Override
+    public <OUT, IN, T> List<T> shortestPath(OUT outbound, IN inbound, int maxDepth, String... labels)
+            throws NullPointerException, IllegalArgumentException, IdNotFoundException {
+
+        requireNonNull(outbound, "outbound is required");
+        requireNonNull(inbound, "inbound is required");
+        if (Stream.of(labels).anyMatch(Objects::isNull)) {
+            throw new NullPointerException("The no one label element cannot be null");
+        }
+        if (maxDepth <= 0) {
+            throw new IllegalArgumentException("The maxDepth must be greater than zero");
+        }
+
+        Object outboundId = getIdValue(outbound, "outbound Id field is required");
+        Object inboundId = getIdValue(inbound, "inbound Id field is required");
+
+        Optional<Path> path = getGraph().traversal().V(outboundId)
+                .repeat(__.out(labels).simplePath())
+                .until(__.or(__.hasId(inboundId), __.loops().is(P.gte(maxDepth))))
+                .hasId(inboundId)
+                .path()
+                .limit(1)
+                .tryNext();
+
+        return path.map(p -> p.objects().stream()
+                .map(vertex -> getVertex().<T>toEntity((Vertex) vertex))
+                .collect(toList()))
+                .orElse(emptyList());
+    }
+
     @Override
     public VertexTraversal getTraversalVertex(Object... vertexIds) throws NullPointerException {
         if (Stream.of(vertexIds).anyMatch(Objects::isNull)) {
             throw new NullPointerException("No one vertexId element cannot be null");
         }
-        return new DefaultVertexTraversal(() -> getGraph().traversal().V(vertexIds), INITIAL_VERTEX, getVertex());
+        return new DefaultVertexTraversal(() -> traversal().V(vertexIds), INITIAL_VERTEX, getVertex());
     }
 
     @Override
@@ -187,9 +358,123 @@ public abstract class AbstractGraphTemplate implements GraphTemplate {
         if (Stream.of(edgeIds).anyMatch(Objects::isNull)) {
             throw new NullPointerException("No one edgeId element cannot be null");
         }
-        return new DefaultEdgeTraversal(() -> getGraph().traversal().E(edgeIds), INITIAL_EDGE, getVertex());
+        return new DefaultEdgeTraversal(() -> traversal().E(edgeIds), INITIAL_EDGE, getVertex());
+    }
+
+    @Override
+    public VertexTraversal getComputerTraversalVertex(Object... vertexIds) throws NullPointerException,
+            UnsupportedOperationException {
+        if (Stream.of(vertexIds).anyMatch(Objects::isNull)) {
+            throw new NullPointerException("No one vertexId element cannot be null");
+        }
+        checkComputer();
+        return new DefaultVertexTraversal(() -> computer().V(vertexIds), INITIAL_VERTEX, getVertex());
+    }
+
+    @Override
+    public EdgeTraversal getComputerTraversalEdge(Object... edgeIds) throws NullPointerException,
+            UnsupportedOperationException {
+        if (Stream.of(edgeIds).anyMatch(Objects::isNull)) {
+            throw new NullPointerException("No one edgeId element cannot be null");
+        }
+        checkComputer();
+        return new DefaultEdgeTraversal(() -> computer().E(edgeIds), INITIAL_EDGE, getVertex());
+    }
+
+
+    private void checkComputer() {
+        Graph graph = getGraph();
+        if (!graph.features().graph().supportsComputer()) {
+            throw new UnsupportedOperationException("The graph does not support GraphComputer: "
+                    + graph.getClass().getName());
+        }
+    }
+
+    private GraphTraversalSource traversal() {
+        return EntityCacheUtil.traversal(getGraph(), getCache());
+    }
+
+    private void invalidate(Vertex vertex) {
+        getCache().ifPresent(c -> EntityCacheUtil.invalidate(getGraph(), c, vertex.label(), vertex.id()));
+    }
+
+    private GraphTraversalSource computer() {
+        return getGraph().traversal().withComputer().withStrategies(HaltedTraverserStrategy.detached());
+    }
+
+    private Object getIdValue(Object entity, String message) {
+        ClassRepresentation representation = getClassRepresentations().get(entity.getClass());
+        FieldRepresentation id = representation.getId()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entity.getClass()));
+        Object value = requireNonNull(getReflections().getValue(entity, id.getNativeField()), message);
+        return FieldGraph.of(value, id).toElement(getVertex(), getConverters()).get();
+    }
+
+    private Vertex findVertex(Map<String, Vertex> vertices, Object idValue, String message) {
+        Vertex vertex = vertices.get(idValue.toString());
+        if (vertex == null) {
+            throw new EntityNotFoundException(message);
+        }
+        return vertex;
+    }
+
+    /**
+     * Finds the edges that already exist between the vertices in a single traversal, instead of walking the edges
+     * of each outbound vertex, and groups them by (outbound id, label, inbound id).
+     */
+    private <OUT, IN> Map<List<Object>, Edge> findEdges(List<EdgeDefinition<OUT, IN>> edges,
+                                                         List<Vertex> outVertices, List<Vertex> inVertices) {
+        Set<Object> outIds = new HashSet<>();
+        Set<Object> inIds = new HashSet<>();
+        Set<String> labels = new HashSet<>();
+        for (int index = 0; index < edges.size(); index++) {
+            outIds.add(outVertices.get(index).id());
+            inIds.add(inVertices.get(index).id());
+            labels.add(edges.get(index).getLabel());
+        }
+
+        Map<List<Object>, Edge> existing = new HashMap<>();
+        getGraph().traversal().V(outIds.toArray())
+                .outE(labels.toArray(new String[0]))
+                .where(__.inV().hasId(P.within(inIds)))
+                .forEachRemaining(e -> existing.putIfAbsent(edgeKey(e.outVertex().id(), e.label(),
+                        e.inVertex().id()), e));
+        return existing;
     }
 
+    private static List<Object> edgeKey(Object outId, String label, Object inId) {
+        return Arrays.asList(outId, label, inId);
+    }
+
+    private <T> BatchResult batch(Iterable<T> entities, int batchSize, UnaryOperator<T> operation) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batchSize must be greater than zero");
+        }
+
+        Graph graph = getGraph();
+        //a Transactional method owns the transaction, so the writes join it instead of committing by batch
+        boolean transactional = graph.features().graph().supportsTransactions()
+                && !TransactionalInterceptor.isActive();
+        List<Object> ids = new ArrayList<>();
+        try {
+            for (T entity : entities) {
+                T written = operation.apply(entity);
+                ids.add(getIdValue(written, "Id field is required"));
+                if (transactional && ids.size() % batchSize == 0) {
+                    graph.tx().commit();
+                }
+            }
+            if (transactional) {
+                graph.tx().commit();
+            }
+        } catch (RuntimeException exception) {
+            if (transactional) {
+                graph.tx().rollback();
+            }
+            throw exception;
+        }
+        return BatchResult.of(ids);
+    }
 
     private <T> void checkId(T entity) {
         ClassRepresentation classRepresentation = getClassRepresentations().get(entity.getClass());
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import java.util.List;
+
+/**
+ * The summary of a batched write of {@link GraphTemplate#insert(Iterable, int)} or
+ * {@link GraphTemplate#update(Iterable, int)}. It keeps the ids of the written entities, not the entities.
+ */
+public interface BatchResult {
+
+    /**
+     * Returns the number of entities written
+     *
+     * @return the number of entities
+     */
+    long getCount();
+
+    /**
+     * Returns the ids of the written entities, in the order they were written
+     *
+     * @return the ids
+     */
+    List<Object> getIds();
+
+    /**
+     * Creates a new {@link BatchResult}
+     *
+     * @param ids the ids of the written entities
+     * @return a new {@link BatchResult} instance
+     * @throws NullPointerException when ids is null
+     */
+    static BatchResult of(List<Object> ids) throws NullPointerException {
+        return new DefaultBatchResult(ids);
+    }
+}
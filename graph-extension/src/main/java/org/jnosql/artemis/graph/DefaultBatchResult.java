@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The default implementation of {@link BatchResult}
+ */
+class DefaultBatchResult implements BatchResult {
+
+    private final List<Object> ids;
+
+    DefaultBatchResult(List<Object> ids) {
+        this.ids = Collections.unmodifiableList(requireNonNull(ids, "ids is required"));
+    }
+
+    @Override
+    public long getCount() {
+        return ids.size();
+    }
+
+    @Override
+    public List<Object> getIds() {
+        return ids;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultBatchResult)) {
+            return false;
+        }
+        DefaultBatchResult that = (DefaultBatchResult) o;
+        return Objects.equals(ids, that.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultBatchResult{" + "count=" + ids.size() +
+                ", ids=" + ids +
+                '}';
+    }
+}
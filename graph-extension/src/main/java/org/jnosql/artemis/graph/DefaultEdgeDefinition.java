@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import java.util.Objects;
+
+/**
+ * The default implementation of {@link EdgeDefinition}
+ */
+class DefaultEdgeDefinition<OUT, IN> implements EdgeDefinition<OUT, IN> {
+
+    private final OUT outbound;
+
+    private final String label;
+
+    private final IN inbound;
+
+    DefaultEdgeDefinition(OUT outbound, String label, IN inbound) {
+        this.outbound = outbound;
+        this.label = label;
+        this.inbound = inbound;
+    }
+
+    @Override
+    public OUT getOutbound() {
+        return outbound;
+    }
+
+    @Override
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public IN getInbound() {
+        return inbound;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultEdgeDefinition)) {
+            return false;
+        }
+        DefaultEdgeDefinition<?, ?> that = (DefaultEdgeDefinition<?, ?>) o;
+        return Objects.equals(outbound, that.outbound) &&
+                Objects.equals(label, that.label) &&
+                Objects.equals(inbound, that.inbound);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(outbound, label, inbound);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(outbound);
+        sb.append("---").append(label);
+        sb.append(" --->").append(inbound);
+        return sb.toString();
+    }
+}
@@ -19,14 +19,19 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.jnosql.artemis.graph.util.TinkerPopUtil;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
+import static org.jnosql.artemis.graph.util.TinkerPopUtil.nextNumber;
 import static org.jnosql.artemis.graph.util.TinkerPopUtil.toEdgeEntity;
+import static org.jnosql.artemis.graph.util.TinkerPopUtil.toStream;
 
 class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversal {
 
@@ -50,7 +55,8 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(value, "value is required");
 
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(propertyKey, value)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(propertyKey, TraversalParam.resolve(g, value))),
+                converter);
     }
 
     @Override
@@ -64,7 +70,8 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
     public EdgeTraversal has(T accessor, Object value) throws NullPointerException {
         requireNonNull(accessor, "accessor is required");
         requireNonNull(value, "value is required");
-        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(accessor, value)), converter);
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.has(accessor, TraversalParam.resolve(g, value))),
+                converter);
     }
 
     @Override
@@ -120,7 +127,7 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
 
     @Override
     public <OUT, IN> Stream<EdgeEntity<OUT, IN>> stream() {
-        return flow.apply(supplier.get()).toList().stream().map(this::toEdge);
+        return toStream(flow.apply(supplier.get())).map(this::toEdge);
     }
 
     @Override
@@ -128,11 +135,65 @@ class DefaultEdgeTraversal extends AbstractEdgeTraversal implements EdgeTraversa
         return flow.apply(supplier.get()).next(limit).stream().map(this::toEdge);
     }
 
+    @Override
+    public EdgeTraversal bind(String name, Object value) throws NullPointerException {
+        requireNonNull(name, "name is required");
+        requireNonNull(value, "value is required");
+        return new DefaultEdgeTraversal(() -> TraversalParam.bind(supplier.get(), name, value), flow, converter);
+    }
+
     @Override
     public ValueMapTraversal valueMap(String... propertyKeys) {
         return new DefaultValueMapTraversal(supplier, flow.andThen(g -> g.valueMap(propertyKeys)));
     }
 
+    @Override
+    public EdgeTraversal dedup() {
+        return new DefaultEdgeTraversal(supplier, flow.andThen(g -> g.dedup()), converter);
+    }
+
+    @Override
+    public <K> Map<K, Long> groupCount(String propertyKey) throws NullPointerException {
+        requireNonNull(propertyKey, "propertyKey is required");
+        return flow.apply(supplier.get()).has(propertyKey).<K>groupCount().by(propertyKey)
+                .tryNext().orElse(emptyMap());
+    }
+
+    @Override
+    public Optional<Number> sum(String propertyKey) throws NullPointerException {
+        requireNonNull(propertyKey, "propertyKey is required");
+        return nextNumber(flow.apply(supplier.get()).values(propertyKey).<Number>sum());
+    }
+
+    @Override
+    public Optional<Number> min(String propertyKey) throws NullPointerException {
+        requireNonNull(propertyKey, "propertyKey is required");
+        return nextNumber(flow.apply(supplier.get()).values(propertyKey).<Number>min());
+    }
+
+    @Override
+    public Optional<Number> max(String propertyKey) throws NullPointerException {
+        requireNonNull(propertyKey, "propertyKey is required");
+        return nextNumber(flow.apply(supplier.get()).values(propertyKey).<Number>max());
+    }
+
+    @Override
+    public Optional<Double> mean(String propertyKey) throws NullPointerException {
+        requireNonNull(propertyKey, "propertyKey is required");
+        return nextNumber(flow.apply(supplier.get()).values(propertyKey).<Double>mean());
+    }
+
+    @Override
+    public void drop() {
+        flow.apply(supplier.get()).drop().iterate();
+    }
+
+    @Override
+    public long drop(int batchSize) throws IllegalArgumentException {
+        return TinkerPopUtil.drop(() -> flow.apply(supplier.get()), batchSize,
+                !TransactionalInterceptor.isActive());
+    }
+
     @Override
     public long count() {
         return flow.apply(supplier.get()).count().tryNext().orElse(0L);
@@ -0,0 +1,245 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.jnosql.diana.api.Value;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The default implementation of {@link EntityCache}, the entries are split in segments by the hash of the key,
+ * each segment is a least recently used map with its own lock and a time to live to each entry. So lookups to
+ * different segments do not wait for each other, and the least recently used order is kept to each segment.
+ */
+class DefaultEntityCache implements EntityCache {
+
+    static final int DEFAULT_SEGMENTS = 16;
+
+    private final int maxSize;
+
+    private final long ttl;
+
+    private final LongSupplier ticker;
+
+    private final Segment[] segments;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    DefaultEntityCache(int maxSize, int segments, long ttl, LongSupplier ticker) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.ticker = ticker;
+        int length = Math.min(segments, maxSize);
+        this.segments = new Segment[length];
+        for (int index = 0; index < length; index++) {
+            int capacity = maxSize / length + (index < maxSize % length ? 1 : 0);
+            this.segments[index] = new Segment(capacity);
+        }
+    }
+
+    @Override
+    public Optional<ArtemisVertex> get(String label, Object id) throws NullPointerException {
+        requireNonNull(label, "label is required");
+        requireNonNull(id, "id is required");
+        Key key = new Key(label, id);
+        Entry entry = segment(key).get(key, ticker.getAsLong());
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        ArtemisVertex vertex = ArtemisVertex.of(label, entry.id);
+        entry.properties.forEach(vertex::add);
+        return Optional.of(vertex);
+    }
+
+    @Override
+    public void put(ArtemisVertex vertex) throws NullPointerException {
+        requireNonNull(vertex, "vertex is required");
+        Object id = vertex.getId().map(Value::get).orElseThrow(() -> new NullPointerException("id is required"));
+        Map<String, Object> properties = new LinkedHashMap<>();
+        vertex.getProperties().forEach(p -> properties.put(p.getKey(), p.get()));
+
+        Key key = new Key(vertex.getLabel(), id);
+        long now = ticker.getAsLong();
+        segment(key).put(key, new Entry(id, unmodifiableMap(properties), now + ttl), now);
+    }
+
+    @Override
+    public void invalidate(String label, Object id) throws NullPointerException {
+        requireNonNull(label, "label is required");
+        requireNonNull(id, "id is required");
+        Key key = new Key(label, id);
+        segment(key).remove(key);
+    }
+
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment segment(Key key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[(hash & Integer.MAX_VALUE) % segments.length];
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultEntityCache{" + "maxSize=" + maxSize +
+                ", ttl=" + ttl +
+                ", segments=" + segments.length +
+                ", size=" + size() +
+                ", hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() +
+                '}';
+    }
+
+    private final class Segment {
+
+        private final int capacity;
+
+        private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private synchronized Entry get(Key key, long now) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.isExpired(now)) {
+                entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry;
+        }
+
+        private synchronized void put(Key key, Entry entry, long now) {
+            entries.put(key, entry);
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry eldest = iterator.next();
+                if (entries.size() > capacity || eldest.isExpired(now)) {
+                    iterator.remove();
+                    evictions.increment();
+                } else {
+                    break;
+                }
+            }
+        }
+
+        private synchronized void remove(Key key) {
+            entries.remove(key);
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private static final class Key {
+
+        private final String label;
+
+        private final String id;
+
+        //the provider might convert the id type, so the ids are matched by their text
+        private Key(String label, Object id) {
+            this.label = label;
+            this.id = id.toString();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return label.equals(key.label) && id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(label, id);
+        }
+    }
+
+    private static final class Entry {
+
+        private final Object id;
+
+        private final Map<String, Object> properties;
+
+        private final long expiresAt;
+
+        private Entry(Object id, Map<String, Object> properties, long expiresAt) {
+            this.id = id;
+            this.properties = properties;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
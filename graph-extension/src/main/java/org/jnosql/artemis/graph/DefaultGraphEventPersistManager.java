@@ -17,10 +17,16 @@ package org.jnosql.artemis.graph;
 import org.jnosql.artemis.EntityPostPersit;
 import org.jnosql.artemis.EntityPrePersist;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
+/**
+ * The default {@link GraphEventPersistManager}. At startup it asks the {@link BeanManager} which events have
+ * observers, so the events without any observer are never fired.
+ */
 @ApplicationScoped
 class DefaultGraphEventPersistManager implements GraphEventPersistManager{
 
@@ -43,33 +49,76 @@ class DefaultGraphEventPersistManager implements GraphEventPersistManager{
     @Inject
     private Event<EntityGraphPostPersist> entityGraphPostPersist;
 
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean preGraph = true;
+
+    private boolean postGraph = true;
+
+    private boolean preEntity = true;
+
+    private boolean postEntity = true;
+
+    private boolean preGraphEntity = true;
+
+    private boolean postGraphEntity = true;
+
+    @PostConstruct
+    void init() {
+        Object entity = new Object();
+        ArtemisVertex vertex = ArtemisVertex.of("observer");
+        preGraph = hasObserver(GraphEntityPrePersist.of(vertex));
+        postGraph = hasObserver(GraphEntityPostPersist.of(vertex));
+        preEntity = hasObserver(EntityPrePersist.of(entity));
+        postEntity = hasObserver(EntityPostPersit.of(entity));
+        preGraphEntity = hasObserver(EntityGraphPrePersist.of(entity));
+        postGraphEntity = hasObserver(EntityGraphPostPersist.of(entity));
+    }
+
     @Override
     public void firePreGraph(ArtemisVertex entity) {
-        graphEntityPrePersistEvent.fire(GraphEntityPrePersist.of(entity));
+        if (preGraph) {
+            graphEntityPrePersistEvent.fire(GraphEntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public void firePostGraph(ArtemisVertex entity) {
-        graphEntityPostPersistEvent.fire(GraphEntityPostPersist.of(entity));
+        if (postGraph) {
+            graphEntityPostPersistEvent.fire(GraphEntityPostPersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (preEntity) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostEntity(T entity) {
-        entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        if (postEntity) {
+            entityPostPersitEvent.fire(EntityPostPersit.of(entity));
+        }
     }
 
     @Override
     public <T> void firePreGraphEntity(T entity) {
-        entityGraphPrePersist.fire(EntityGraphPrePersist.of(entity));
+        if (preGraphEntity) {
+            entityGraphPrePersist.fire(EntityGraphPrePersist.of(entity));
+        }
     }
 
     @Override
     public <T> void firePostGraphEntity(T entity) {
-        entityGraphPostPersist.fire(EntityGraphPostPersist.of(entity));
+        if (postGraphEntity) {
+            entityGraphPostPersist.fire(EntityGraphPostPersist.of(entity));
+        }
+    }
+
+    private boolean hasObserver(Object event) {
+        return beanManager == null || !beanManager.resolveObserverMethods(event).isEmpty();
     }
 }
@@ -15,13 +15,18 @@
 package org.jnosql.artemis.graph;
 
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.artemis.reflection.Reflections;
 
+import javax.annotation.PostConstruct;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
+import java.util.Optional;
 
 /**
- * The default {@link GraphTemplate}
+ * The default {@link GraphTemplate}. The {@link EntityCache} is resolved once, when the template is created, so the
+ * cache producer should be application scoped to share the cache between templates.
  */
 class DefaultGraphTemplate extends AbstractGraphTemplate {
 
@@ -38,6 +43,23 @@ class DefaultGraphTemplate extends AbstractGraphTemplate {
     @Inject
     private GraphWorkflow workflow;
 
+    @Inject
+    private Reflections reflections;
+
+    @Inject
+    private Converters converters;
+
+    @Inject
+    private Instance<EntityCache> cache;
+
+    private Optional<EntityCache> entityCache = Optional.empty();
+
+    @PostConstruct
+    void init() {
+        if (!cache.isUnsatisfied() && !cache.isAmbiguous()) {
+            entityCache = Optional.of(cache.get());
+        }
+    }
 
     @Override
     protected Graph getGraph() {
@@ -58,4 +80,19 @@ class DefaultGraphTemplate extends AbstractGraphTemplate {
     protected GraphWorkflow getFlow() {
         return workflow;
     }
+
+    @Override
+    protected Reflections getReflections() {
+        return reflections;
+    }
+
+    @Override
+    protected Converters getConverters() {
+        return converters;
+    }
+
+    @Override
+    protected Optional<EntityCache> getCache() {
+        return entityCache;
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The default implementation of {@link GraphTemplateAsync}. The TinkerPop
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.Traversal#promise(Function)} only runs asynchronously on
+ * remote graphs, so the template runs on the executor instead. The transactions are bound to the thread,
+ * thus each operation commits, or rolls back, its own transaction when the graph supports transactions.
+ * Without an {@link Executor} bean the template owns a fixed pool, with one daemon thread to each processor, that is
+ * shut down when the application scope is destroyed.
+ */
+@ApplicationScoped
+class DefaultGraphTemplateAsync implements GraphTemplateAsync {
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private GraphTemplate template;
+
+    private Supplier<Graph> graph;
+
+    private Executor executor;
+
+    private Optional<ExecutorService> ownExecutor = Optional.empty();
+
+    DefaultGraphTemplateAsync() {
+    }
+
+    @Inject
+    DefaultGraphTemplateAsync(GraphTemplate template, Instance<Graph> graph, Instance<Executor> executor) {
+        this.template = template;
+        this.graph = graph::get;
+        if (executor.isUnsatisfied() || executor.isAmbiguous()) {
+            ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread thread = new Thread(r, "graph-template-async-" + THREADS.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.executor = pool;
+            this.ownExecutor = Optional.of(pool);
+        } else {
+            this.executor = executor.get();
+        }
+    }
+
+    DefaultGraphTemplateAsync(GraphTemplate template, Supplier<Graph> graph, Executor executor) {
+        this.template = template;
+        this.graph = graph;
+        this.executor = requireNonNull(executor, "executor is required");
+    }
+
+    @PreDestroy
+    void destroy() {
+        ownExecutor.ifPresent(ExecutorService::shutdown);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> insert(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return async(() -> template.insert(entity));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> update(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return async(() -> template.update(entity));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> upsert(T entity) throws NullPointerException {
+        requireNonNull(entity, "entity is required");
+        return async(() -> template.upsert(entity));
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> delete(T id) throws NullPointerException {
+        requireNonNull(id, "id is required");
+        return async(() -> {
+            template.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteEdge(T id) throws NullPointerException {
+        requireNonNull(id, "id is required");
+        return async(() -> {
+            template.deleteEdge(id);
+            return null;
+        });
+    }
+
+    @Override
+    public <T, ID> CompletableFuture<Optional<T>> find(ID id) throws NullPointerException {
+        requireNonNull(id, "id is required");
+        return async(() -> template.find(id));
+    }
+
+    @Override
+    public <OUT, IN> CompletableFuture<EdgeEntity<OUT, IN>> edge(OUT outbound, String label, IN incoming)
+            throws NullPointerException {
+        requireNonNull(incoming, "inbound is required");
+        requireNonNull(label, "label is required");
+        requireNonNull(outbound, "outbound is required");
+        return async(() -> template.edge(outbound, label, incoming));
+    }
+
+    @Override
+    public <T> CompletableFuture<Optional<T>> next(VertexTraversal traversal) throws NullPointerException {
+        requireNonNull(traversal, "traversal is required");
+        return async(traversal::next);
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> list(VertexTraversal traversal) throws NullPointerException {
+        requireNonNull(traversal, "traversal is required");
+        return async(() -> {
+            try (Stream<T> stream = traversal.stream()) {
+                return stream.collect(toList());
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Long> count(VertexTraversal traversal) throws NullPointerException {
+        requireNonNull(traversal, "traversal is required");
+        return async(traversal::count);
+    }
+
+    @Override
+    public <R> CompletableFuture<R> execute(Function<GraphTemplate, R> operation) throws NullPointerException {
+        requireNonNull(operation, "operation is required");
+        return async(() -> operation.apply(template));
+    }
+
+    private <R> CompletableFuture<R> async(Supplier<R> operation) {
+        return supplyAsync(() -> {
+            Graph graph = this.graph.get();
+            boolean transactional = graph.features().graph().supportsTransactions();
+            try {
+                R result = operation.get();
+                if (transactional) {
+                    graph.tx().commit();
+                }
+                return result;
+            } catch (RuntimeException exception) {
+                if (transactional) {
+                    graph.tx().rollback();
+                }
+                throw exception;
+            }
+        }, executor);
+    }
+}
@@ -15,15 +15,20 @@
 package org.jnosql.artemis.graph;
 
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.jnosql.artemis.Converters;
 import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.artemis.reflection.Reflections;
 
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Vetoed;
 import javax.inject.Inject;
+import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * The default implementation of {@link GraphTemplateProducer}
+ * The default implementation of {@link GraphTemplateProducer}, the {@link EntityCache} is resolved once to each
+ * template, so the cache producer should be application scoped to share the cache between templates.
  */
 class DefaultGraphTemplateProducer implements GraphTemplateProducer {
 
@@ -36,10 +41,22 @@ class DefaultGraphTemplateProducer implements GraphTemplateProducer {
     @Inject
     private GraphWorkflow workflow;
 
+    @Inject
+    private Reflections reflections;
+
+    @Inject
+    private Converters converters;
+
+    @Inject
+    private Instance<EntityCache> cache;
+
     @Override
     public GraphTemplate get(Graph graph) throws NullPointerException {
         requireNonNull(graph, "graph is required");
-        return new ProducerGraphTemplate(classRepresentations, vertexConverter, workflow, graph);
+        Optional<EntityCache> entityCache = cache.isUnsatisfied() || cache.isAmbiguous() ? Optional.empty() :
+                Optional.of(cache.get());
+        return new ProducerGraphTemplate(classRepresentations, vertexConverter, workflow, graph,
+                reflections, converters, entityCache);
     }
 
 
@@ -54,15 +71,27 @@ class DefaultGraphTemplateProducer implements GraphTemplateProducer {
 
         private GraphWorkflow workflow;
 
+        private Reflections reflections;
+
+        private Converters converters;
+
+        private Optional<EntityCache> cache;
+
         ProducerGraphTemplate(ClassRepresentations classRepresentations,
                               VertexConverter vertexConverter,
                               GraphWorkflow workflow,
-                              Graph graph) {
+                              Graph graph,
+                              Reflections reflections,
+                              Converters converters,
+                              Optional<EntityCache> cache) {
 
             this.classRepresentations = classRepresentations;
             this.vertexConverter = vertexConverter;
             this.graph = graph;
             this.workflow = workflow;
+            this.reflections = reflections;
+            this.converters = converters;
+            this.cache = cache;
         }
 
         ProducerGraphTemplate() {
@@ -87,5 +116,20 @@ class DefaultGraphTemplateProducer implements GraphTemplateProducer {
         protected GraphWorkflow getFlow() {
             return workflow;
         }
+
+        @Override
+        protected Reflections getReflections() {
+            return reflections;
+        }
+
+        @Override
+        protected Converters getConverters() {
+            return converters;
+        }
+
+        @Override
+        protected Optional<EntityCache> getCache() {
+            return cache;
+        }
     }
 }
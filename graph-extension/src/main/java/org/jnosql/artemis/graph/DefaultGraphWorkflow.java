@@ -28,6 +28,12 @@ class DefaultGraphWorkflow implements GraphWorkflow {
 
     private VertexConverter converter;
 
+    private Function<Object, ArtemisVertex> preAction;
+
+    private UnaryOperator<ArtemisVertex> firePostGraph;
+
+    private Function<Object, Object> postConversion;
+
 
     DefaultGraphWorkflow() {
     }
@@ -36,60 +42,59 @@ class DefaultGraphWorkflow implements GraphWorkflow {
     DefaultGraphWorkflow(GraphEventPersistManager graphEventPersistManager, VertexConverter converter) {
         this.graphEventPersistManager = graphEventPersistManager;
         this.converter = converter;
+        this.preAction = preAction();
+        this.firePostGraph = t -> {
+            graphEventPersistManager.firePostGraph(t);
+            return t;
+        };
+        this.postConversion = postConversion();
     }
 
     @Override
     public <T> T flow(T entity, UnaryOperator<ArtemisVertex> action) throws NullPointerException {
-        Function<T, T> flow = getFlow(entity, action);
-        return flow.apply(entity);
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(action, "action is required");
+        ArtemisVertex vertex = firePostGraph.apply(action.apply(preAction.apply(entity)));
+        T result = converter.toEntity((Class<T>) entity.getClass(), vertex);
+        postConversion.apply(result);
+        return result;
     }
 
-    private <T> Function<T, T> getFlow(T entity, UnaryOperator<ArtemisVertex> action) {
-        UnaryOperator<T> validation = t -> Objects.requireNonNull(t, "entity is required");
-
-        UnaryOperator<T> firePreEntity = t -> {
+    private Function<Object, ArtemisVertex> preAction() {
+        UnaryOperator<Object> firePreEntity = t -> {
             graphEventPersistManager.firePreEntity(t);
             return t;
         };
 
-        UnaryOperator<T> firePreGraphEntity = t -> {
+        UnaryOperator<Object> firePreGraphEntity = t -> {
             graphEventPersistManager.firePreGraphEntity(t);
             return t;
         };
 
-        Function<T, ArtemisVertex> converterGraph = t -> converter.toVertex(t);
+        Function<Object, ArtemisVertex> converterGraph = t -> converter.toVertex(t);
 
         UnaryOperator<ArtemisVertex> firePreGraph = t -> {
             graphEventPersistManager.firePreGraph(t);
             return t;
         };
 
-        UnaryOperator<ArtemisVertex> firePostGraph = t -> {
-            graphEventPersistManager.firePostGraph(t);
-            return t;
-        };
-
-        Function<ArtemisVertex, T> converterEntity = t -> converter.toEntity((Class<T>) entity.getClass(), t);
+        return firePreEntity
+                .andThen(firePreGraphEntity)
+                .andThen(converterGraph)
+                .andThen(firePreGraph);
+    }
 
-        UnaryOperator<T> firePostEntity = t -> {
+    private Function<Object, Object> postConversion() {
+        UnaryOperator<Object> firePostEntity = t -> {
             graphEventPersistManager.firePostEntity(t);
             return t;
         };
 
-        UnaryOperator<T> firePostGraphEntity = t -> {
+        UnaryOperator<Object> firePostGraphEntity = t -> {
             graphEventPersistManager.firePostGraphEntity(t);
             return t;
         };
 
-        return validation
-                .andThen(firePreEntity)
-                .andThen(firePreGraphEntity)
-                .andThen(converterGraph)
-                .andThen(firePreGraph)
-                .andThen(action)
-                .andThen(firePostGraph)
-                .andThen(converterEntity)
-                .andThen(firePostEntity)
-                .andThen(firePostGraphEntity);
+        return firePostEntity.andThen(firePostGraphEntity);
     }
 }
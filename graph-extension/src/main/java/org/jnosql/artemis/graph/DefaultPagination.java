@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+/**
+ * The default implementation of {@link Pagination}
+ */
+class DefaultPagination implements Pagination {
+
+    private final long firstResult;
+
+    private final long maxResults;
+
+    DefaultPagination(long firstResult, long maxResults) {
+        this.firstResult = firstResult;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public long getFirstResult() {
+        return firstResult;
+    }
+
+    @Override
+    public long getMaxResults() {
+        return maxResults;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultPagination)) {
+            return false;
+        }
+        DefaultPagination that = (DefaultPagination) o;
+        return firstResult == that.firstResult &&
+                maxResults == that.maxResults;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(firstResult) * 31 + Long.hashCode(maxResults);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultPagination{" + "firstResult=" + firstResult +
+                ", maxResults=" + maxResults +
+                '}';
+    }
+}
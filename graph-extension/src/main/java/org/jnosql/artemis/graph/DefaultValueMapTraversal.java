@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
+import static org.jnosql.artemis.graph.util.TinkerPopUtil.toStream;
 
 /**
  * The default implementation of {@link ValueMapTraversal}
@@ -41,7 +42,7 @@ class DefaultValueMapTraversal implements ValueMapTraversal{
 
     @Override
     public Stream<Map<String, Object>> stream() {
-        return flow.apply(supplier.get()).toList().stream();
+        return toStream(flow.apply(supplier.get()));
     }
 
     @Override
@@ -14,64 +14,64 @@
  */
 package org.jnosql.artemis.graph;
 
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.jnosql.artemis.AttributeConverter;
 import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.graph.VertexMapper.FieldMapper;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.FieldRepresentation;
-import org.jnosql.artemis.reflection.Reflections;
 import org.jnosql.diana.api.Value;
 
+import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
-import java.lang.reflect.Field;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Consumer;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
-import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
 
 /**
- * The default implementation {@link VertexConverter}
+ * The default implementation {@link VertexConverter}, it compiles a {@link VertexMapper} once
+ * by entity class and reuses it in all conversions.
  */
+@ApplicationScoped
 class DefaultVertexConverter implements VertexConverter {
 
 
     @Inject
     private ClassRepresentations classRepresentations;
 
-    @Inject
-    private Reflections reflections;
-
     @Inject
     private Converters converters;
 
+    private final Map<Class<?>, VertexMapper> mappers = new ConcurrentHashMap<>();
+
     @Override
     public ArtemisVertex toVertex(Object entityInstance) throws NullPointerException {
+        requireNonNull(entityInstance, "entityInstance is required");
+        VertexMapper mapper = getMapper(entityInstance.getClass());
+        String label = mapper.getLabel();
 
-        ClassRepresentation representation = classRepresentations.get(entityInstance.getClass());
-        String label = representation.getName();
-
-        List<FieldGraph> fields = representation.getFields().stream()
-                .map(f -> to(f, entityInstance))
-                .filter(FieldGraph::isNotEmpty).collect(toList());
-
-        Optional<FieldGraph> id = fields.stream().filter(FieldGraph::isId).findFirst();
-
-        ArtemisVertex vertex = id.map(f -> f.toElement(this, converters))
+        ArtemisVertex vertex = mapper.getId()
+                .flatMap(f -> Optional.ofNullable(f.get(entityInstance)).map(v -> to(f, v)))
+                .map(f -> f.toElement(this, converters))
                 .map(ArtemisProperty::get)
                 .map(v -> ArtemisVertex.of(label, v))
-                .orElse(ArtemisVertex.of(label));
-
-        fields.stream().filter(FieldGraph::isNotId)
-                .flatMap(f -> f.toElements(this, converters).stream())
-                .forEach(vertex::add);
-
+                .orElseGet(() -> ArtemisVertex.of(label));
 
+        for (FieldMapper field : mapper.getFields()) {
+            if (field.isId()) {
+                continue;
+            }
+            Object value = field.get(entityInstance);
+            if (value != null) {
+                to(field, value).toElements(this, converters).forEach(vertex::add);
+            }
+        }
         return vertex;
     }
 
@@ -79,9 +79,9 @@ class DefaultVertexConverter implements VertexConverter {
     public <T> T toEntity(Class<T> entityClass, ArtemisVertex vertex) throws NullPointerException {
         requireNonNull(entityClass, "entityClass is required");
         requireNonNull(vertex, "vertex is required");
-        T entity = toEntity(entityClass, vertex.getProperties());
-
-        feedId(vertex, entity);
+        VertexMapper mapper = getMapper(entityClass);
+        T entity = toEntity(mapper, vertex::get);
+        feedId(mapper, vertex.getId(), entity);
         return entity;
     }
 
@@ -90,89 +90,75 @@ class DefaultVertexConverter implements VertexConverter {
     public <T> T toEntity(ArtemisVertex vertex) throws NullPointerException {
         requireNonNull(vertex, "vertex is required");
         ClassRepresentation representation = classRepresentations.findByName(vertex.getLabel());
-        Class<T> entityClass = (Class<T>) representation.getClassInstance();
-        T entity = toEntity(entityClass, vertex.getProperties());
-        feedId(vertex, entity);
+        VertexMapper mapper = getMapper(representation.getClassInstance());
+        T entity = toEntity(mapper, vertex::get);
+        feedId(mapper, vertex.getId(), entity);
         return entity;
     }
 
-
-    private <T> void feedId(ArtemisVertex vertex, T entity) {
-        ClassRepresentation representation = classRepresentations.findByName(vertex.getLabel());
-        Optional<FieldRepresentation> id = representation.getId();
-
-
-        Optional<Value> vertexId = vertex.getId();
-        if (vertexId.isPresent() && id.isPresent()) {
-            Field fieldId = id.get().getNativeField();
-            reflections.setValue(entity, fieldId, id.get().getValue(vertexId.get()));
-        }
+    @Override
+    public <T> T toEntity(Vertex vertex) throws NullPointerException {
+        requireNonNull(vertex, "vertex is required");
+        ClassRepresentation representation = classRepresentations.findByName(vertex.label());
+        VertexMapper mapper = getMapper(representation.getClassInstance());
+        T entity = toEntity(mapper, key -> getValue(vertex, key));
+        feedId(mapper, Optional.ofNullable(vertex.id()).map(Value::of), entity);
+        return entity;
     }
 
 
-    private <T> T convertEntity(List<ArtemisProperty> elements, ClassRepresentation representation, T instance) {
-
-        Map<String, FieldRepresentation> fieldsGroupByName = representation.getFieldsGroupByName();
-        List<String> names = elements.stream()
-                .map(ArtemisProperty::getKey)
-                .sorted()
-                .collect(toList());
-        Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
+    @Override
+    public List<String> getKeys(Class<?> entityClass) throws NullPointerException {
+        requireNonNull(entityClass, "entityClass is required");
+        return getMapper(entityClass).getKeys(this::getMapper);
+    }
 
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(k -> EMBEDDED.equals(fieldsGroupByName.get(k).getType())))
-                .forEach(feedObject(instance, elements, fieldsGroupByName));
+    private VertexMapper getMapper(Class<?> entityClass) {
+        return mappers.computeIfAbsent(entityClass, c -> VertexMapper.of(classRepresentations.get(c)));
+    }
 
-        return instance;
+    private <T> void feedId(VertexMapper mapper, Optional<Value> vertexId, T entity) {
+        Optional<FieldMapper> id = mapper.getId();
+        if (vertexId.isPresent() && id.isPresent()) {
+            FieldMapper field = id.get();
+            field.set(entity, field.getField().getValue(vertexId.get()));
+        }
     }
 
-    private <T> Consumer<String> feedObject(T instance, List<ArtemisProperty> elements,
-                                            Map<String, FieldRepresentation> fieldsGroupByName) {
-        return k -> {
-            Optional<ArtemisProperty> element = elements
-                    .stream()
-                    .filter(c -> c.getKey().equals(k))
-                    .findFirst();
-
-            FieldRepresentation field = fieldsGroupByName.get(k);
-            if (EMBEDDED.equals(field.getType())) {
-                setEmbeddedField(instance, elements, field);
+    private <T> T toEntity(VertexMapper mapper, Function<String, Optional<Value>> properties) {
+        T instance = mapper.newInstance();
+        for (FieldMapper field : mapper.getFields()) {
+            if (field.isEmbedded()) {
+                field.set(instance, toEntity(getMapper(field.getType()), properties));
             } else {
-                setSingleField(instance, element, field);
+                properties.apply(field.getName()).ifPresent(v -> setSingleField(instance, v, field));
             }
-        };
+        }
+        return instance;
     }
 
+    private Optional<Value> getValue(Vertex vertex, String key) {
+        VertexProperty<Object> property = vertex.property(key);
+        if (property.isPresent()) {
+            return Optional.of(Value.of(property.value()));
+        }
+        return Optional.empty();
+    }
 
-    private <T> void setSingleField(T instance, Optional<ArtemisProperty> element, FieldRepresentation field) {
-        Value value = element.get().getValue();
+    private <T> void setSingleField(T instance, Value value, FieldMapper mapper) {
+        FieldRepresentation field = mapper.getField();
         Optional<Class<? extends AttributeConverter>> converter = field.getConverter();
         if (converter.isPresent()) {
             AttributeConverter attributeConverter = converters.get(converter.get());
             Object attributeConverted = attributeConverter.convertToEntityAttribute(value.get());
-            reflections.setValue(instance, field.getNativeField(), field.getValue(Value.of(attributeConverted)));
+            mapper.set(instance, field.getValue(Value.of(attributeConverted)));
         } else {
-            reflections.setValue(instance, field.getNativeField(), field.getValue(value));
+            mapper.set(instance, field.getValue(value));
         }
     }
 
-    private <T> void setEmbeddedField(T instance, List<ArtemisProperty> elements,
-                                      FieldRepresentation field) {
-        reflections.setValue(instance, field.getNativeField(), toEntity(field.getNativeField().getType(), elements));
-    }
-
-    private <T> T toEntity(Class<T> entityClass, List<ArtemisProperty> elements) {
-        ClassRepresentation representation = classRepresentations.get(entityClass);
-        T instance = reflections.newInstance(representation.getConstructor());
-        return convertEntity(elements, representation, instance);
-    }
-
-
-
-
-    private FieldGraph to(FieldRepresentation field, Object entityInstance) {
-        Object value = reflections.getValue(entityInstance, field.getNativeField());
-        return FieldGraph.of(value, field);
+    private FieldGraph to(FieldMapper field, Object value) {
+        return FieldGraph.of(value, field.getField());
     }
 
 }
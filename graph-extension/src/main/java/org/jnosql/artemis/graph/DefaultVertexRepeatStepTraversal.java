@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.graph;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
@@ -22,19 +23,58 @@ import java.util.function.Supplier;
 
 class DefaultVertexRepeatStepTraversal extends AbstractVertexTraversal implements VertexRepeatStepTraversal {
 
+    private final Traversal<?, Vertex> condition;
+
+    private final boolean emit;
+
+    private final boolean simplePath;
 
     DefaultVertexRepeatStepTraversal(Supplier<GraphTraversal<?, ?>> supplier, Function<GraphTraversal<?, ?>,
-            GraphTraversal<Vertex, Vertex>> flow, VertexConverter converter) {
+            GraphTraversal<Vertex, Vertex>> flow, Traversal<?, Vertex> condition, VertexConverter converter) {
+        this(supplier, flow, condition, false, false, converter);
+    }
+
+    private DefaultVertexRepeatStepTraversal(Supplier<GraphTraversal<?, ?>> supplier, Function<GraphTraversal<?, ?>,
+            GraphTraversal<Vertex, Vertex>> flow, Traversal<?, Vertex> condition, boolean emit, boolean simplePath,
+                                             VertexConverter converter) {
         super(supplier, flow, converter);
+        this.condition = condition;
+        this.emit = emit;
+        this.simplePath = simplePath;
+    }
+
+    @Override
+    public VertexRepeatStepTraversal emit() {
+        return new DefaultVertexRepeatStepTraversal(supplier, flow, condition, true, simplePath, converter);
+    }
+
+    @Override
+    public VertexRepeatStepTraversal simplePath() {
+        return new DefaultVertexRepeatStepTraversal(supplier, flow, condition, emit, true, converter);
     }
 
     @Override
     public VertexTraversal times(int times) {
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.times(times)), converter);
+        return new DefaultVertexTraversal(supplier, repeat().andThen(g -> g.times(times)), converter);
     }
 
     @Override
     public VertexUntilTraversal until() {
-        return new DefaultVertexUntilTraversal(supplier, flow, converter);
+        return new DefaultVertexUntilTraversal(supplier, repeat(), converter);
+    }
+
+    private Function<GraphTraversal<?, ?>, GraphTraversal<Vertex, Vertex>> repeat() {
+        return flow.andThen(g -> {
+            GraphTraversal<Vertex, Vertex> traversal = g.repeat(body());
+            return emit ? traversal.emit() : traversal;
+        });
+    }
+
+    private Traversal<?, Vertex> body() {
+        if (simplePath) {
+            GraphTraversal<?, Vertex> body = (GraphTraversal<?, Vertex>) condition.asAdmin().clone();
+            return body.simplePath();
+        }
+        return condition;
     }
 }
@@ -41,7 +41,7 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(value, "value is required");
         Traversal<?, Vertex> condition = __.has(propertyKey, value);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow, condition, converter);
     }
 
     @Override
@@ -49,7 +49,7 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(predicate, "predicate is required");
         Traversal<?, Vertex> condition = __.has(propertyKey, predicate);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow, condition, converter);
     }
 
     @Override
@@ -57,7 +57,7 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
         requireNonNull(accessor, "accessor is required");
         requireNonNull(value, "value is required");
         Traversal<?, Vertex> condition = __.has(accessor, value);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow, condition, converter);
     }
 
     @Override
@@ -65,14 +65,14 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
         requireNonNull(accessor, "accessor is required");
         requireNonNull(predicate, "predicate is required");
         Traversal<?, Vertex> condition = __.has(accessor, predicate);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow, condition, converter);
     }
 
     @Override
     public VertexRepeatStepTraversal hasNot(String propertyKey) throws NullPointerException {
         requireNonNull(propertyKey, "propertyKey is required");
         Traversal<?, Vertex> condition = __.hasNot(propertyKey);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow, condition, converter);
     }
 
     @Override
@@ -81,7 +81,7 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
             throw new NullPointerException("The no one label element cannot be null");
         }
         Traversal<?, Vertex> condition = __.out(labels);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow, condition, converter);
     }
 
     @Override
@@ -90,7 +90,7 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
             throw new NullPointerException("The no one label element cannot be null");
         }
         Traversal<?, Vertex> condition = __.in(labels);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow, condition, converter);
     }
 
     @Override
@@ -99,6 +99,6 @@ class DefaultVertexRepeatTraversal extends AbstractVertexTraversal implements Ve
             throw new NullPointerException("The no one label element cannot be null");
         }
         Traversal<?, Vertex> condition = __.both(labels);
-        return new DefaultVertexRepeatStepTraversal(supplier, flow.andThen(g -> g.repeat(condition)), converter);
+        return new DefaultVertexRepeatStepTraversal(supplier, flow, condition, converter);
     }
 }
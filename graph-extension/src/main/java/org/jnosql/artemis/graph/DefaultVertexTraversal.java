@@ -20,13 +20,17 @@ import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.graph.util.TinkerPopUtil;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 
 /**
  * The default implementation of {@link VertexTraversal}
@@ -46,7 +50,8 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
         requireNonNull(propertyKey, "propertyKey is required");
         requireNonNull(value, "value is required");
 
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(propertyKey, value)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(propertyKey, TraversalParam.resolve(g, value))),
+                converter);
     }
 
     @Override
@@ -66,7 +71,8 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
     public VertexTraversal has(T accessor, Object value) throws NullPointerException {
         requireNonNull(accessor, "accessor is required");
         requireNonNull(value, "value is required");
-        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(accessor, value)), converter);
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.has(accessor, TraversalParam.resolve(g, value))),
+                converter);
     }
 
     @Override
@@ -152,36 +158,119 @@ class DefaultVertexTraversal extends AbstractVertexTraversal implements VertexTr
     @Override
     public <T> Optional<T> next() {
         Optional<Vertex> vertex = flow.apply(supplier.get()).tryNext();
-        if (vertex.isPresent()) {
-            ArtemisVertex artemisVertex = TinkerPopUtil.toArtemisVertex(vertex.get());
-            return Optional.of(converter.toEntity(artemisVertex));
-
-        }
-        return Optional.empty();
+        return vertex.map(converter::toEntity);
     }
 
     @Override
     public <T> Stream<T> stream() {
-        return flow.apply(supplier.get()).toList().stream()
-                .map(TinkerPopUtil::toArtemisVertex)
+        return TinkerPopUtil.toStream(flow.apply(supplier.get()))
                 .map(converter::toEntity);
     }
 
     @Override
     public <T> Stream<T> next(int limit) {
         return flow.apply(supplier.get()).next(limit).stream()
-                .map(TinkerPopUtil::toArtemisVertex)
                 .map(converter::toEntity);
     }
 
+    @Override
+    public <T> Stream<List<T>> path() {
+        return TinkerPopUtil.toStream(flow.apply(supplier.get()).path())
+                .map(path -> path.objects().stream()
+                        .filter(Vertex.class::isInstance)
+                        .map(vertex -> converter.<T>toEntity((Vertex) vertex))
+                        .collect(toList()));
+    }
+
+    @Override
+    public <T> Optional<T> next(Class<T> entityClass) throws NullPointerException {
+        requireNonNull(entityClass, "entityClass is required");
+        return project(entityClass).tryNext()
+                .map(TinkerPopUtil::toArtemisVertex)
+                .map(v -> converter.toEntity(entityClass, v));
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> entityClass) throws NullPointerException {
+        requireNonNull(entityClass, "entityClass is required");
+        return TinkerPopUtil.toStream(project(entityClass))
+                .map(TinkerPopUtil::toArtemisVertex)
+                .map(v -> converter.toEntity(entityClass, v));
+    }
+
+    @Override
+    public VertexTraversal bind(String name, Object value) throws NullPointerException {
+        requireNonNull(name, "name is required");
+        requireNonNull(value, "value is required");
+        return new DefaultVertexTraversal(() -> TraversalParam.bind(supplier.get(), name, value), flow, converter);
+    }
+
     @Override
     public ValueMapTraversal valueMap(String... propertyKeys) {
         return new DefaultValueMapTraversal(supplier, flow.andThen(g -> g.valueMap(propertyKeys)));
     }
 
 
+    @Override
+    public VertexTraversal dedup() {
+        return new DefaultVertexTraversal(supplier, flow.andThen(g -> g.dedup()), converter);
+    }
+
+    @Override
+    public <K> Map<K, Long> groupCount(String propertyKey) throws NullPointerException {
+        requireNonNull(propertyKey, "propertyKey is required");
+        return flow.apply(supplier.get()).has(propertyKey).<K>groupCount().by(propertyKey)
+                .tryNext().orElse(emptyMap());
+    }
+
+    @Override
+    public Optional<Number> sum(String propertyKey) throws NullPointerException {
+        requireNonNull(propertyKey, "propertyKey is required");
+        return TinkerPopUtil.nextNumber(flow.apply(supplier.get()).values(propertyKey).<Number>sum());
+    }
+
+    @Override
+    public Optional<Number> min(String propertyKey) throws NullPointerException {
+        requireNonNull(propertyKey, "propertyKey is required");
+        return TinkerPopUtil.nextNumber(flow.apply(supplier.get()).values(propertyKey).<Number>min());
+    }
+
+    @Override
+    public Optional<Number> max(String propertyKey) throws NullPointerException {
+        requireNonNull(propertyKey, "propertyKey is required");
+        return TinkerPopUtil.nextNumber(flow.apply(supplier.get()).values(propertyKey).<Number>max());
+    }
+
+    @Override
+    public Optional<Double> mean(String propertyKey) throws NullPointerException {
+        requireNonNull(propertyKey, "propertyKey is required");
+        return TinkerPopUtil.nextNumber(flow.apply(supplier.get()).values(propertyKey).<Double>mean());
+    }
+
+    @Override
+    public void drop() {
+        flow.apply(supplier.get()).drop().iterate();
+    }
+
+    @Override
+    public long drop(int batchSize) throws IllegalArgumentException {
+        return TinkerPopUtil.drop(() -> flow.apply(supplier.get()), batchSize,
+                !TransactionalInterceptor.isActive());
+    }
+
     @Override
     public long count() {
         return flow.apply(supplier.get()).count().tryNext().orElse(0L);
     }
+
+    private GraphTraversal<Vertex, ? extends Map<?, ?>> project(Class<?> entityClass) {
+        String[] keys = converter.getKeys(entityClass).toArray(new String[0]);
+        GraphTraversal<Vertex, Vertex> traversal = flow.apply(supplier.get());
+        if (keys.length == 0) {
+            //valueMap without keys returns every property, so an entity that maps no property takes id and label
+            return traversal.project(TinkerPopUtil.PROJECTION_ID, TinkerPopUtil.PROJECTION_LABEL)
+                    .by(T.id).by(T.label);
+        }
+        return traversal.valueMap(true, keys);
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The definition of an {@link org.apache.tinkerpop.gremlin.structure.Edge} to be created between two entities
+ * on {@link GraphTemplate#edges(Iterable)}.
+ * <pre>outbound ---label---&#62; inbound.</pre>
+ *
+ * @param <OUT> the outbound entity
+ * @param <IN>  the inbound entity
+ */
+public interface EdgeDefinition<OUT, IN> {
+
+    /**
+     * Returns the outbound entity
+     *
+     * @return the outbound entity
+     */
+    OUT getOutbound();
+
+    /**
+     * Returns the edge label
+     *
+     * @return the label
+     */
+    String getLabel();
+
+    /**
+     * Returns the inbound entity
+     *
+     * @return the inbound entity
+     */
+    IN getInbound();
+
+    /**
+     * Creates a new {@link EdgeDefinition}
+     *
+     * @param outbound the outbound entity
+     * @param label    the edge label
+     * @param inbound  the inbound entity
+     * @param <OUT>    the outbound type
+     * @param <IN>     the inbound type
+     * @return a new {@link EdgeDefinition} instance
+     * @throws NullPointerException when either outbound, label or inbound are null
+     */
+    static <OUT, IN> EdgeDefinition<OUT, IN> of(OUT outbound, String label, IN inbound) throws NullPointerException {
+        requireNonNull(outbound, "outbound is required");
+        requireNonNull(label, "label is required");
+        requireNonNull(inbound, "inbound is required");
+        return new DefaultEdgeDefinition<>(outbound, label, inbound);
+    }
+}
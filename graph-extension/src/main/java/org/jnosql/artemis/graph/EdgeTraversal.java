@@ -14,6 +14,7 @@
  */
 package org.jnosql.artemis.graph;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -91,6 +92,17 @@ public interface EdgeTraversal extends EdgeConditionTraversal {
      */
     <OUT, IN> Stream<EdgeEntity<OUT, IN>> next(int limit);
 
+    /**
+     * Binds a value to a {@link TraversalParam} used in the steps of this traversal. The steps are shared,
+     * so a traversal can be prepared once and then bound and executed many times.
+     *
+     * @param name  the parameter name
+     * @param value the value
+     * @return a {@link EdgeTraversal} with the parameter bound
+     * @throws NullPointerException when either name or value are null
+     */
+    EdgeTraversal bind(String name, Object value) throws NullPointerException;
+
     /**
      * Map the {@link org.apache.tinkerpop.gremlin.structure.Element} to a {@link java.util.Map} of the properties key'd according
      * to their {@link org.apache.tinkerpop.gremlin.structure.Property#key}.
@@ -102,6 +114,76 @@ public interface EdgeTraversal extends EdgeConditionTraversal {
     ValueMapTraversal valueMap(final String... propertyKeys);
 
 
+    /**
+     * Removes the repeated edges of the traversal
+     *
+     * @return a {@link EdgeTraversal} with the dedup step
+     */
+    EdgeTraversal dedup();
+
+    /**
+     * Counts the edges grouped by the value of the property, the edges without the property are ignored.
+     * The reduction runs inside the traversal.
+     *
+     * @param propertyKey the property key
+     * @param <K>         the property type
+     * @return the number of edges to each property value
+     * @throws NullPointerException when propertyKey is null
+     */
+    <K> Map<K, Long> groupCount(String propertyKey) throws NullPointerException;
+
+    /**
+     * Sums the values of a numeric property inside the traversal
+     *
+     * @param propertyKey the property key
+     * @return the sum
+     * @throws NullPointerException when propertyKey is null
+     */
+    Optional<Number> sum(String propertyKey) throws NullPointerException;
+
+    /**
+     * Returns the minimum value of a numeric property, it runs inside the traversal
+     *
+     * @param propertyKey the property key
+     * @return the minimum value otherwise {@link Optional#empty()}
+     * @throws NullPointerException when propertyKey is null
+     */
+    Optional<Number> min(String propertyKey) throws NullPointerException;
+
+    /**
+     * Returns the maximum value of a numeric property, it runs inside the traversal
+     *
+     * @param propertyKey the property key
+     * @return the maximum value otherwise {@link Optional#empty()}
+     * @throws NullPointerException when propertyKey is null
+     */
+    Optional<Number> max(String propertyKey) throws NullPointerException;
+
+    /**
+     * Returns the mean of a numeric property, it runs inside the traversal
+     *
+     * @param propertyKey the property key
+     * @return the mean otherwise {@link Optional#empty()}
+     * @throws NullPointerException when propertyKey is null
+     */
+    Optional<Double> mean(String propertyKey) throws NullPointerException;
+
+    /**
+     * Removes the edges of this traversal with the drop step, the edges are not loaded
+     */
+    void drop();
+
+    /**
+     * Removes the edges of this traversal with the drop step in chunks of batchSize edges.
+     * When the graph supports transactions, each chunk is committed in its own transaction, within a
+     * {@link Transactional} method the chunks join its transaction instead.
+     *
+     * @param batchSize the maximum number of edges to each chunk
+     * @return the number of edges removed
+     * @throws IllegalArgumentException when batchSize is not greater than zero
+     */
+    long drop(int batchSize) throws IllegalArgumentException;
+
     /**
      * Map the traversal next to its reduction as a sum of the elements
      *
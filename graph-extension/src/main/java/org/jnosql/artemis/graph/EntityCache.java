@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A cache of vertices in front of {@link GraphTemplate#find(Class, Object)}, the vertices are kept by both
+ * {@link org.apache.tinkerpop.gremlin.structure.T#label} and {@link org.apache.tinkerpop.gremlin.structure.T#id}.
+ * The cache keeps a copy of the vertex properties, so each lookup converts a new entity instance.
+ * The provider might convert the id type, e.g. a String id to a Long one, so the ids are matched by their text.
+ * The template invalidates a vertex when it is inserted, updated, upserted or dropped, also by a traversal, and
+ * again once the transaction finishes, so a find running before the commit does not keep the old value.
+ * Changes that do not use the template, such as a vertex changed straight in the {@link
+ * org.apache.tinkerpop.gremlin.structure.Graph}, are only seen after the entry expires.
+ * The cache is optional, to enable it produce an application scoped bean, a dependent one is resolved only once
+ * to each template:
+ * <pre>@Produces @ApplicationScoped EntityCache cache = EntityCache.of(10_000, Duration.ofMinutes(5));</pre>
+ */
+public interface EntityCache {
+
+    /**
+     * Returns a copy of the vertex cached to the label and id
+     *
+     * @param label the vertex label
+     * @param id    the vertex id
+     * @return the vertex otherwise {@link Optional#empty()}
+     * @throws NullPointerException when either label or id are null
+     */
+    Optional<ArtemisVertex> get(String label, Object id) throws NullPointerException;
+
+    /**
+     * Caches a copy of the vertex to its label and id
+     *
+     * @param vertex the vertex
+     * @throws NullPointerException when either vertex or its id are null
+     */
+    void put(ArtemisVertex vertex) throws NullPointerException;
+
+    /**
+     * Removes the vertex of the label and id
+     *
+     * @param label the vertex label
+     * @param id    the vertex id
+     * @throws NullPointerException when either label or id are null
+     */
+    void invalidate(String label, Object id) throws NullPointerException;
+
+    /**
+     * Removes all the vertices
+     */
+    void clear();
+
+    /**
+     * Returns the number of vertices cached, it might include expired ones not evicted yet
+     *
+     * @return the size
+     */
+    int size();
+
+    /**
+     * Returns the number of times that {@link EntityCache#get(String, Object)} found the vertex
+     *
+     * @return the hit count
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of times that {@link EntityCache#get(String, Object)} did not find the vertex
+     *
+     * @return the miss count
+     */
+    long getMissCount();
+
+    /**
+     * Returns the number of vertices removed either by the size limit or by the time to live
+     *
+     * @return the eviction count
+     */
+    long getEvictionCount();
+
+    /**
+     * Creates a new {@link EntityCache} that evicts the least recently used vertex. The entries are split in
+     * segments with their own lock, so the least recently used order is kept to each segment.
+     *
+     * @param maxSize the maximum number of vertices
+     * @param ttl     the time to live of each vertex
+     * @return a new {@link EntityCache} instance
+     * @throws NullPointerException     when ttl is null
+     * @throws IllegalArgumentException when either maxSize or ttl are not positive
+     */
+    static EntityCache of(int maxSize, Duration ttl) throws NullPointerException, IllegalArgumentException {
+        requireNonNull(ttl, "ttl is required");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The maxSize must be greater than zero");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("The ttl must be positive");
+        }
+        return new DefaultEntityCache(maxSize, DefaultEntityCache.DEFAULT_SEGMENTS, ttl.toNanos(), System::nanoTime);
+    }
+}
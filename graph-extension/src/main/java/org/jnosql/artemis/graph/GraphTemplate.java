@@ -17,6 +17,7 @@ package org.jnosql.artemis.graph;
 import org.jnosql.artemis.EntityNotFoundException;
 import org.jnosql.artemis.IdNotFoundException;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -47,6 +48,79 @@ public interface GraphTemplate {
      */
     <T> T update(T entity) throws NullPointerException, IdNotFoundException;
 
+    /**
+     * Inserts entities, the writes are committed in batches of {@code batchSize} elements
+     * when the {@link org.apache.tinkerpop.gremlin.structure.Graph} supports transactions.
+     * When an error happens just the current batch is rolled back. Within a {@link Transactional} method the
+     * writes join its transaction instead, so they are committed, or rolled back, only once with the method.
+     * The entities are not kept, just their ids, see {@link BatchResult}.
+     *
+     * @param entities  entities to be saved
+     * @param batchSize the number of entities by commit
+     * @param <T>       the instance type
+     * @return the number of entities saved and their ids
+     * @throws NullPointerException     when entities is null
+     * @throws IdNotFoundException      when an entity has not {@link org.jnosql.artemis.Id}
+     * @throws IllegalArgumentException when batchSize is either zero or negative
+     */
+    <T> BatchResult insert(Iterable<T> entities, int batchSize) throws NullPointerException, IdNotFoundException,
+            IllegalArgumentException;
+
+    /**
+     * Inserts entities using the default batch size to commit
+     *
+     * @param entities entities to be saved
+     * @param <T>      the instance type
+     * @return the number of entities saved and their ids
+     * @throws NullPointerException when entities is null
+     * @throws IdNotFoundException  when an entity has not {@link org.jnosql.artemis.Id}
+     * @see GraphTemplate#insert(Iterable, int)
+     */
+    <T> BatchResult insert(Iterable<T> entities) throws NullPointerException, IdNotFoundException;
+
+    /**
+     * Updates entities, the writes are committed in batches of {@code batchSize} elements
+     * when the {@link org.apache.tinkerpop.gremlin.structure.Graph} supports transactions.
+     * When an error happens just the current batch is rolled back. Within a {@link Transactional} method the
+     * writes join its transaction instead, so they are committed, or rolled back, only once with the method.
+     * The entities are not kept, just their ids, see {@link BatchResult}.
+     *
+     * @param entities  entities to be updated
+     * @param batchSize the number of entities by commit
+     * @param <T>       the instance type
+     * @return the number of entities updated and their ids
+     * @throws NullPointerException     when entities is null
+     * @throws IdNotFoundException      when an entity has not {@link org.jnosql.artemis.Id}
+     * @throws IllegalArgumentException when batchSize is either zero or negative
+     */
+    <T> BatchResult update(Iterable<T> entities, int batchSize) throws NullPointerException, IdNotFoundException,
+            IllegalArgumentException;
+
+    /**
+     * Updates entities using the default batch size to commit
+     *
+     * @param entities entities to be updated
+     * @param <T>      the instance type
+     * @return the number of entities updated and their ids
+     * @throws NullPointerException when entities is null
+     * @throws IdNotFoundException  when an entity has not {@link org.jnosql.artemis.Id}
+     * @see GraphTemplate#update(Iterable, int)
+     */
+    <T> BatchResult update(Iterable<T> entities) throws NullPointerException, IdNotFoundException;
+
+    /**
+     * Either updates the entity when there is a {@link org.apache.tinkerpop.gremlin.structure.Vertex} with the same id
+     * or inserts it otherwise. It does a single lookup by id, instead of checking the existence and then
+     * either inserting or updating.
+     *
+     * @param entity entity to be either inserted or updated
+     * @param <T>    the instance type
+     * @return the entity saved
+     * @throws NullPointerException when entity is null
+     * @throws IdNotFoundException  when entity has not {@link org.jnosql.artemis.Id}
+     */
+    <T> T upsert(T entity) throws NullPointerException, IdNotFoundException;
+
 
     /**
      * Deletes a {@link org.apache.tinkerpop.gremlin.structure.Vertex}
@@ -79,6 +153,20 @@ public interface GraphTemplate {
      */
     <T, ID> Optional<T> find(ID id) throws NullPointerException;
 
+    /**
+     * Find an entity given the entity class, that defines the {@link org.apache.tinkerpop.gremlin.structure.T#label},
+     * and {@link org.apache.tinkerpop.gremlin.structure.T#id}. When there is an {@link EntityCache} the vertex is
+     * looked up in the cache first.
+     *
+     * @param entityClass the entity class
+     * @param id          the id to be used in the query {@link org.apache.tinkerpop.gremlin.structure.T#id}
+     * @param <T>         the entity type
+     * @param <ID>        the id type
+     * @return the entity found otherwise {@link Optional#empty()}
+     * @throws NullPointerException when either entityClass or id are null
+     */
+    <T, ID> Optional<T> find(Class<T> entityClass, ID id) throws NullPointerException;
+
     /**
      * Either find or create an Edge between this two entities.
      * {@link org.apache.tinkerpop.gremlin.structure.Edge}
@@ -97,6 +185,38 @@ public interface GraphTemplate {
     <OUT, IN> EdgeEntity<OUT, IN> edge(OUT outbound, String label, IN incoming) throws NullPointerException,
             IdNotFoundException, EntityNotFoundException;
 
+    /**
+     * Either find or create the Edges from the definitions. The outbound and inbound vertices of all definitions
+     * are loaded in a single lookup.
+     *
+     * @param definitions    the edges to either find or create
+     * @param checkExistence when true an existing edge with the same label between the two vertices is reused,
+     *                       when false the edges are created straight, so use it only when the edges are new
+     * @param <OUT>          the outgoing type
+     * @param <IN>           the incoming type
+     * @return the {@link EdgeEntity} of the definitions in the same order
+     * @throws NullPointerException    when either definitions or any id is null
+     * @throws IdNotFoundException     when {@link org.jnosql.artemis.Id} annotation is missing in the entities
+     * @throws EntityNotFoundException when either an outbound or an incoming is not found
+     */
+    <OUT, IN> Iterable<EdgeEntity<OUT, IN>> edges(Iterable<EdgeDefinition<OUT, IN>> definitions, boolean checkExistence)
+            throws NullPointerException, IdNotFoundException, EntityNotFoundException;
+
+    /**
+     * Either find or create the Edges from the definitions, checking whether each edge already exists.
+     *
+     * @param definitions the edges to either find or create
+     * @param <OUT>       the outgoing type
+     * @param <IN>        the incoming type
+     * @return the {@link EdgeEntity} of the definitions in the same order
+     * @throws NullPointerException    when either definitions or any id is null
+     * @throws IdNotFoundException     when {@link org.jnosql.artemis.Id} annotation is missing in the entities
+     * @throws EntityNotFoundException when either an outbound or an incoming is not found
+     * @see GraphTemplate#edges(Iterable, boolean)
+     */
+    <OUT, IN> Iterable<EdgeEntity<OUT, IN>> edges(Iterable<EdgeDefinition<OUT, IN>> definitions)
+            throws NullPointerException, IdNotFoundException, EntityNotFoundException;
+
 
     /**
      * Finds an {@link EdgeEntity} from the Edge Id
@@ -111,6 +231,26 @@ public interface GraphTemplate {
     <OUT, IN, E> Optional<EdgeEntity<OUT, IN>> edge(E edgeId) throws NullPointerException;
 
 
+    /**
+     * Finds the shortest path following the outgoing edges from outbound to inbound. It is a breadth-first
+     * repeat that prunes cycles and stops at maxDepth.
+     * <pre>outbound ---label---&#62; ... ---label---&#62; inbound.</pre>
+     *
+     * @param outbound the outbound entity
+     * @param inbound  the inbound entity
+     * @param maxDepth the maximum number of edges in the path
+     * @param labels   the edge labels to traverse, when empty any label
+     * @param <OUT>    the outbound type
+     * @param <IN>     the inbound type
+     * @param <T>      the entities type in the path
+     * @return the entities in the path, including outbound and inbound, otherwise an empty list
+     * @throws NullPointerException     when either outbound, inbound or any label are null
+     * @throws IllegalArgumentException when maxDepth is not greater than zero
+     * @throws IdNotFoundException      when either outbound or inbound has not {@link org.jnosql.artemis.Id}
+     */
+    <OUT, IN, T> List<T> shortestPath(OUT outbound, IN inbound, int maxDepth, String... labels)
+            throws NullPointerException, IllegalArgumentException, IdNotFoundException;
+
     /**
      * Gets a {@link VertexTraversal} to run a query in the graph
      *
@@ -131,4 +271,32 @@ public interface GraphTemplate {
     EdgeTraversal getTraversalEdge(Object... edgeIds) throws NullPointerException;
 
 
+    /**
+     * Gets a {@link VertexTraversal} that runs as OLAP, the traversal source is created with
+     * {@link org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource#withComputer()}
+     * so it uses the {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer} of the provider, e.g.
+     * TinkerGraphComputer, and runs partitioned across the workers. It fits to whole graph queries such as counts,
+     * groups and repeats; the elements returned are detached.
+     *
+     * @param vertexIds get ids
+     * @return a {@link VertexTraversal} instance
+     * @throws NullPointerException          if any id element is null
+     * @throws UnsupportedOperationException when the graph does not support a GraphComputer
+     */
+    VertexTraversal getComputerTraversalVertex(Object... vertexIds) throws NullPointerException,
+            UnsupportedOperationException;
+
+    /**
+     * Gets a {@link EdgeTraversal} that runs as OLAP
+     *
+     * @param edgeIds get ids
+     * @return a {@link EdgeTraversal} instance
+     * @throws NullPointerException          if any id element is null
+     * @throws UnsupportedOperationException when the graph does not support a GraphComputer
+     * @see GraphTemplate#getComputerTraversalVertex(Object...)
+     */
+    EdgeTraversal getComputerTraversalEdge(Object... edgeIds) throws NullPointerException,
+            UnsupportedOperationException;
+
+
 }
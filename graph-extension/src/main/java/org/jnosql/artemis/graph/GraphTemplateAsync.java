@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.jnosql.artemis.EntityNotFoundException;
+import org.jnosql.artemis.IdNotFoundException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The asynchronous version of {@link GraphTemplate}, each operation runs the {@link GraphTemplate} on an
+ * {@link Executor} and returns a {@link CompletableFuture}. The CDI instance is application scoped and uses the
+ * {@link Executor} bean when there is one, otherwise a fixed pool with one thread to each processor, owned by the
+ * instance and shut down with the application. The operations block on the graph, so they never run on the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()}. As the transactions are bound to the thread, each
+ * operation commits its own transaction when the graph supports transactions.
+ */
+public interface GraphTemplateAsync {
+
+    /**
+     * Inserts entity
+     *
+     * @param entity entity to be saved
+     * @param <T>    the instance type
+     * @return the entity saved
+     * @throws NullPointerException when entity is null
+     * @see GraphTemplate#insert(Object)
+     */
+    <T> CompletableFuture<T> insert(T entity) throws NullPointerException;
+
+    /**
+     * Updates entity
+     *
+     * @param entity entity to be updated
+     * @param <T>    the instance type
+     * @return the entity updated, when the id is not found the future completes with an
+     * {@link EntityNotFoundException} or an {@link IdNotFoundException}
+     * @throws NullPointerException when entity is null
+     * @see GraphTemplate#update(Object)
+     */
+    <T> CompletableFuture<T> update(T entity) throws NullPointerException;
+
+    /**
+     * Either updates or inserts the entity
+     *
+     * @param entity entity to be saved
+     * @param <T>    the instance type
+     * @return the entity saved
+     * @throws NullPointerException when entity is null
+     * @see GraphTemplate#upsert(Object)
+     */
+    <T> CompletableFuture<T> upsert(T entity) throws NullPointerException;
+
+    /**
+     * Deletes a {@link org.apache.tinkerpop.gremlin.structure.Vertex}
+     *
+     * @param id  the id to be used in the query {@link org.apache.tinkerpop.gremlin.structure.T#id}
+     * @param <T> the id type
+     * @return a future completed when the vertex is deleted
+     * @throws NullPointerException when id is null
+     * @see GraphTemplate#delete(Object)
+     */
+    <T> CompletableFuture<Void> delete(T id) throws NullPointerException;
+
+    /**
+     * Deletes a {@link org.apache.tinkerpop.gremlin.structure.Edge}
+     *
+     * @param id  the id to be used in the query {@link org.apache.tinkerpop.gremlin.structure.T#id}
+     * @param <T> the id type
+     * @return a future completed when the edge is deleted
+     * @throws NullPointerException when id is null
+     * @see GraphTemplate#deleteEdge(Object)
+     */
+    <T> CompletableFuture<Void> deleteEdge(T id) throws NullPointerException;
+
+    /**
+     * Find an entity given {@link org.apache.tinkerpop.gremlin.structure.T#id}
+     *
+     * @param id   the id to be used in the query {@link org.apache.tinkerpop.gremlin.structure.T#id}
+     * @param <T>  the entity type
+     * @param <ID> the id type
+     * @return the entity found otherwise {@link Optional#empty()}
+     * @throws NullPointerException when id is null
+     * @see GraphTemplate#find(Object)
+     */
+    <T, ID> CompletableFuture<Optional<T>> find(ID id) throws NullPointerException;
+
+    /**
+     * Either find or create an Edge between this two entities.
+     *
+     * @param outbound the outbound entity
+     * @param label    the Edge label
+     * @param incoming the incoming entity
+     * @param <OUT>    the outgoing type
+     * @param <IN>     the incoming type
+     * @return the {@link EdgeEntity} of these two entities
+     * @throws NullPointerException when either incoming, label or outbound are null
+     * @see GraphTemplate#edge(Object, String, Object)
+     */
+    <OUT, IN> CompletableFuture<EdgeEntity<OUT, IN>> edge(OUT outbound, String label, IN incoming)
+            throws NullPointerException;
+
+    /**
+     * Returns the next entity of a {@link VertexTraversal}
+     *
+     * @param traversal the traversal
+     * @param <T>       the entity type
+     * @return the entity otherwise {@link Optional#empty()}
+     * @throws NullPointerException when traversal is null
+     */
+    <T> CompletableFuture<Optional<T>> next(VertexTraversal traversal) throws NullPointerException;
+
+    /**
+     * Returns all the entities of a {@link VertexTraversal}
+     *
+     * @param traversal the traversal
+     * @param <T>       the entity type
+     * @return the entities
+     * @throws NullPointerException when traversal is null
+     */
+    <T> CompletableFuture<List<T>> list(VertexTraversal traversal) throws NullPointerException;
+
+    /**
+     * Counts the vertices of a {@link VertexTraversal}
+     *
+     * @param traversal the traversal
+     * @return the number of vertices
+     * @throws NullPointerException when traversal is null
+     */
+    CompletableFuture<Long> count(VertexTraversal traversal) throws NullPointerException;
+
+    /**
+     * Runs any blocking operation of the {@link GraphTemplate} asynchronously, e.g. an {@link EdgeTraversal}
+     * <pre>async.execute(t -&#62; t.getTraversalVertex().hasLabel("Person").count());</pre>
+     *
+     * @param operation the operation
+     * @param <R>       the result type
+     * @return the operation result
+     * @throws NullPointerException when operation is null
+     */
+    <R> CompletableFuture<R> execute(Function<GraphTemplate, R> operation) throws NullPointerException;
+
+    /**
+     * Creates a {@link GraphTemplateAsync} that runs the template on the executor
+     *
+     * @param template the template
+     * @param graph    the graph of the template, used to commit each operation
+     * @param executor the executor
+     * @return a new {@link GraphTemplateAsync} instance
+     * @throws NullPointerException when either template, graph or executor are null
+     */
+    static GraphTemplateAsync of(GraphTemplate template, Graph graph, Executor executor) throws NullPointerException {
+        requireNonNull(template, "template is required");
+        requireNonNull(graph, "graph is required");
+        requireNonNull(executor, "executor is required");
+        return new DefaultGraphTemplateAsync(template, () -> graph, executor);
+    }
+}
@@ -34,7 +34,8 @@ public interface GraphWorkflow {
      * Executes the workflow to do an interaction on a graph database.
      *
      * @param entity the entity to be saved
-     * @param action the alteration to be executed on database
+     * @param action the alteration to be executed on database, it receives the {@link ArtemisVertex} already
+     *               converted from the entity, so it must not convert the entity again
      * @param <T>    the entity type
      * @return after the workflow the the entity response
      */
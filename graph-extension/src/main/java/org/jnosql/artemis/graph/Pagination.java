@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+/**
+ * A page of a query. When it is the last parameter of a graph repository query method, it becomes a
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal#range(long, long)} step.
+ * <pre>List&#60;Person&#62; findByAge(Integer age, Pagination pagination);</pre>
+ */
+public interface Pagination {
+
+    /**
+     * Returns the position of the first result, it starts at zero
+     *
+     * @return the first result
+     */
+    long getFirstResult();
+
+    /**
+     * Returns the maximum number of results
+     *
+     * @return the maximum number of results
+     */
+    long getMaxResults();
+
+    /**
+     * Returns the position after the last result of this page
+     *
+     * @return {@link Pagination#getFirstResult()} plus {@link Pagination#getMaxResults()}
+     */
+    default long getLastResult() {
+        return getFirstResult() + getMaxResults();
+    }
+
+    /**
+     * Creates a new {@link Pagination}
+     *
+     * @param firstResult the position of the first result
+     * @param maxResults  the maximum number of results
+     * @return a new {@link Pagination} instance
+     * @throws IllegalArgumentException when firstResult is negative or maxResults is not positive
+     */
+    static Pagination of(long firstResult, long maxResults) throws IllegalArgumentException {
+        if (firstResult < 0) {
+            throw new IllegalArgumentException("firstResult cannot be negative");
+        }
+        if (maxResults <= 0) {
+            throw new IllegalArgumentException("maxResults must be greater than zero");
+        }
+        return new DefaultPagination(firstResult, maxResults);
+    }
+
+    /**
+     * Creates a new {@link Pagination} from a page number
+     *
+     * @param page the page number, it starts at one
+     * @param size the page size
+     * @return a new {@link Pagination} instance
+     * @throws IllegalArgumentException when page or size are not positive
+     */
+    static Pagination page(long page, long size) throws IllegalArgumentException {
+        if (page <= 0) {
+            throw new IllegalArgumentException("page must be greater than zero");
+        }
+        return of((page - 1) * size, size);
+    }
+}
@@ -15,6 +15,7 @@
 package org.jnosql.artemis.graph;
 
 
+import javax.enterprise.util.Nonbinding;
 import javax.interceptor.InterceptorBinding;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -29,6 +30,17 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 /**
  * The Transactional annotation provides the application the ability to declaratively
  * control transaction boundaries on CDI managed beans. {@link org.apache.tinkerpop.gremlin.structure.Transaction}
+ * A transactional method called from another transactional method joins the transaction already in progress,
+ * which is committed or rolled back only by the outermost call.
  */
 public @interface Transactional {
+
+    /**
+     * Defines whether the transaction only reads. A read-only transaction is never committed, it is rolled back
+     * once the outermost method returns, so any write done inside it is discarded.
+     *
+     * @return true when the transaction is read-only, the default value is false
+     */
+    @Nonbinding
+    boolean readOnly() default false;
 }
\ No newline at end of file
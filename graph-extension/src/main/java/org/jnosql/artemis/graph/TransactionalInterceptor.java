@@ -24,6 +24,7 @@ import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
 import javax.interceptor.InvocationContext;
 import javax.annotation.Priority;
+import java.lang.reflect.Method;
 
 
 @Transactional
@@ -32,24 +33,66 @@ import javax.annotation.Priority;
 @Priority(Interceptor.Priority.APPLICATION)
 class TransactionalInterceptor {
 
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
     @Inject
     private Instance<Graph> graph;
 
     @AroundInvoke
     public Object manageTransaction(InvocationContext context) throws Exception {
+        if (ACTIVE.get() != null) {
+            return context.proceed();
+        }
+        boolean readOnly = isReadOnly(context.getMethod());
         Transaction transaction = graph.get().tx();
+        if (readOnly && transaction.isOpen()) {
+            return join(context);
+        }
         if (!transaction.isOpen()) {
             transaction.open();
         }
+        ACTIVE.set(Boolean.TRUE);
         try {
             Object proceed = context.proceed();
-            transaction.commit();
+            if (readOnly) {
+                transaction.rollback();
+            } else {
+                transaction.commit();
+            }
             return proceed;
         } catch (Exception exception) {
             transaction.rollback();
             throw exception;
+        } finally {
+            ACTIVE.remove();
+        }
+
+    }
+
+    /**
+     * Checks if the current thread runs within a {@link Transactional} method
+     *
+     * @return true when there is a transaction managed by the interceptor
+     */
+    static boolean isActive() {
+        return ACTIVE.get() != null;
+    }
+
+    private Object join(InvocationContext context) throws Exception {
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return context.proceed();
+        } finally {
+            ACTIVE.remove();
         }
+    }
 
+    private boolean isReadOnly(Method method) {
+        Transactional transactional = method.getAnnotation(Transactional.class);
+        if (transactional == null) {
+            transactional = method.getDeclaringClass().getAnnotation(Transactional.class);
+        }
+        return transactional != null && transactional.readOnly();
     }
 
 
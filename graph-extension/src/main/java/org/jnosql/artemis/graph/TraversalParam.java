@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A named placeholder to a value in a traversal, it allows to prepare a {@link VertexTraversal} or an
+ * {@link EdgeTraversal} once and run it many times with different values. The value is given at
+ * {@link VertexTraversal#bind(String, Object)} and it is resolved when the steps are applied.
+ * <pre>VertexTraversal byName = template.getTraversalVertex().has("name", TraversalParam.of("name"));</pre>
+ * <pre>byName.bind("name", "Otavio").next();</pre>
+ */
+public final class TraversalParam {
+
+    /**
+     * The side-effect keys of the bound values start with this prefix, so they do not collide with the keys of the
+     * sideEffect, store and aggregate steps
+     */
+    static final String KEY_PREFIX = "~jnosql.param.";
+
+    private final String name;
+
+    private TraversalParam(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the parameter name
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Creates a new {@link TraversalParam}
+     *
+     * @param name the parameter name
+     * @return a new {@link TraversalParam} instance
+     * @throws NullPointerException when name is null
+     */
+    public static TraversalParam of(String name) throws NullPointerException {
+        return new TraversalParam(requireNonNull(name, "name is required"));
+    }
+
+    static <T> GraphTraversal<?, ?> bind(GraphTraversal<?, ?> traversal, String name, T value) {
+        traversal.asAdmin().getSideEffects().register(KEY_PREFIX + name, () -> value, null);
+        return traversal;
+    }
+
+    static Object resolve(GraphTraversal<?, ?> traversal, Object value) {
+        if (!(value instanceof TraversalParam)) {
+            return value;
+        }
+        String name = ((TraversalParam) value).getName();
+        TraversalSideEffects sideEffects = traversal.asAdmin().getSideEffects();
+        if (!sideEffects.exists(KEY_PREFIX + name)) {
+            throw new IllegalStateException(String.format("The parameter %s is not bound", name));
+        }
+        return sideEffects.get(KEY_PREFIX + name);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TraversalParam)) {
+            return false;
+        }
+        TraversalParam that = (TraversalParam) o;
+        return Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(name);
+    }
+
+    @Override
+    public String toString() {
+        return "TraversalParam{" + "name='" + name + '\'' + '}';
+    }
+}
@@ -15,6 +15,9 @@
 package org.jnosql.artemis.graph;
 
 
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.List;
 
 /**
  * This interface represents the converter between an entity and the {@link ArtemisVertex}
@@ -51,4 +54,26 @@ public interface VertexConverter {
      * @throws NullPointerException when entity is null
      */
     <T> T toEntity(ArtemisVertex entity) throws NullPointerException;
+
+    /**
+     * Converts a TinkerPop {@link Vertex} straight to entity, searching the instance type from
+     * {@link Vertex#label()}. It reads just the properties the entity maps, without copying the vertex
+     * to an {@link ArtemisVertex} first.
+     *
+     * @param vertex the {@link Vertex} to be converted
+     * @param <T>    the entity type
+     * @return the instance from {@link Vertex}
+     * @throws NullPointerException when vertex is null
+     */
+    <T> T toEntity(Vertex vertex) throws NullPointerException;
+
+    /**
+     * Returns the property keys that an entity class maps, the fields of embedded entities included.
+     * The id is not a property, so it is not returned.
+     *
+     * @param entityClass the entity class
+     * @return the property keys
+     * @throws NullPointerException when entityClass is null
+     */
+    List<String> getKeys(Class<?> entityClass) throws NullPointerException;
 }
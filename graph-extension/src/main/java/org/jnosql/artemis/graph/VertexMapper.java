@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.jnosql.artemis.reflection.ClassRepresentation;
+import org.jnosql.artemis.reflection.FieldRepresentation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
+import static org.jnosql.artemis.reflection.FieldType.EMBEDDED;
+
+/**
+ * The mapping between an entity class and {@link ArtemisVertex} compiled once from {@link ClassRepresentation}.
+ * It keeps a {@link MethodHandle} to the constructor and to each field, so a conversion neither looks up
+ * the fields nor goes through the reflection API again.
+ */
+final class VertexMapper {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final ClassRepresentation representation;
+
+    private final MethodHandle constructor;
+
+    private final List<FieldMapper> fields;
+
+    private final FieldMapper id;
+
+    private volatile List<String> keys;
+
+    private VertexMapper(ClassRepresentation representation, MethodHandle constructor, List<FieldMapper> fields) {
+        this.representation = representation;
+        this.constructor = constructor;
+        this.fields = fields;
+        this.id = fields.stream().filter(FieldMapper::isId).findFirst().orElse(null);
+    }
+
+    ClassRepresentation getRepresentation() {
+        return representation;
+    }
+
+    String getLabel() {
+        return representation.getName();
+    }
+
+    List<FieldMapper> getFields() {
+        return fields;
+    }
+
+    Optional<FieldMapper> getId() {
+        return Optional.ofNullable(id);
+    }
+
+    /**
+     * Returns the property keys mapped by the entity, the keys of embedded entities included.
+     * They are computed on the first call, since an embedded entity needs its own mapper.
+     *
+     * @param embedded the mapper to an embedded field type
+     * @return the property keys
+     */
+    List<String> getKeys(Function<Class<?>, VertexMapper> embedded) {
+        if (keys == null) {
+            List<String> names = new ArrayList<>();
+            for (FieldMapper field : fields) {
+                if (field.isEmbedded()) {
+                    names.addAll(embedded.apply(field.getType()).getKeys(embedded));
+                } else if (field.isNotId()) {
+                    names.add(field.getName());
+                }
+            }
+            keys = Collections.unmodifiableList(names);
+        }
+        return keys;
+    }
+
+    <T> T newInstance() {
+        try {
+            return (T) constructor.invoke();
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("An error when the entity " + representation.getClassInstance()
+                    + " was instantiated", throwable);
+        }
+    }
+
+    static VertexMapper of(ClassRepresentation representation) {
+        try {
+            Constructor<?> constructor = representation.getConstructor();
+            constructor.setAccessible(true);
+            List<FieldMapper> fields = representation.getFields().stream()
+                    .map(FieldMapper::of)
+                    .collect(collectingAndThen(toList(), Collections::unmodifiableList));
+            return new VertexMapper(representation, LOOKUP.unreflectConstructor(constructor), fields);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException("An error when the mapper to " + representation.getClassInstance()
+                    + " was created", exception);
+        }
+    }
+
+    /**
+     * The accessors to a single field of the entity
+     */
+    static final class FieldMapper {
+
+        private final FieldRepresentation field;
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private final boolean embedded;
+
+        private FieldMapper(FieldRepresentation field, MethodHandle getter, MethodHandle setter) {
+            this.field = field;
+            this.getter = getter;
+            this.setter = setter;
+            this.embedded = EMBEDDED.equals(field.getType());
+        }
+
+        FieldRepresentation getField() {
+            return field;
+        }
+
+        String getName() {
+            return field.getName();
+        }
+
+        boolean isId() {
+            return field.isId();
+        }
+
+        boolean isNotId() {
+            return !isId();
+        }
+
+        boolean isEmbedded() {
+            return embedded;
+        }
+
+        Class<?> getType() {
+            return field.getNativeField().getType();
+        }
+
+        Object get(Object instance) {
+            try {
+                return getter.invoke(instance);
+            } catch (Throwable throwable) {
+                throw new IllegalStateException("An error when the field " + field.getName() + " was read", throwable);
+            }
+        }
+
+        void set(Object instance, Object value) {
+            try {
+                setter.invoke(instance, value);
+            } catch (Throwable throwable) {
+                throw new IllegalStateException("An error when the field " + field.getName() + " was written",
+                        throwable);
+            }
+        }
+
+        static FieldMapper of(FieldRepresentation field) {
+            try {
+                Field nativeField = field.getNativeField();
+                nativeField.setAccessible(true);
+                return new FieldMapper(field, LOOKUP.unreflectGetter(nativeField), LOOKUP.unreflectSetter(nativeField));
+            } catch (IllegalAccessException exception) {
+                throw new IllegalStateException("An error when the field " + field.getName() + " was mapped",
+                        exception);
+            }
+        }
+    }
+}
@@ -20,6 +20,21 @@ package org.jnosql.artemis.graph;
  */
 public interface VertexRepeatStepTraversal {
 
+    /**
+     * Emits the vertices of every loop, not only the vertices of the last one
+     *
+     * @return a {@link VertexRepeatStepTraversal} that emits the vertices of each loop
+     */
+    VertexRepeatStepTraversal emit();
+
+    /**
+     * Removes the paths with cycles in the loop, so a vertex is not visited twice in the same path.
+     * The cycles are pruned inside the repeat instead of being filtered at the end.
+     *
+     * @return a {@link VertexRepeatStepTraversal} without cycles
+     */
+    VertexRepeatStepTraversal simplePath();
+
     /**
      * Starts a loop traversal n times
      * @param times the repeat times that is required
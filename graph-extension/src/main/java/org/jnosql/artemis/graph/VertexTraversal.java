@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.graph;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -130,6 +132,28 @@ public interface VertexTraversal extends VertexConditionTraversal {
      */
     <T> Stream<T> stream();
 
+    /**
+     * Returns the next element in the traversal as the entity class. Just the properties mapped
+     * by the entity are fetched from the graph, so the unmapped ones neither are transferred nor deserialized.
+     *
+     * @param entityClass the entity class
+     * @param <T>         the entity type
+     * @return the entity result otherwise {@link Optional#empty()}
+     * @throws NullPointerException when entityClass is null
+     */
+    <T> Optional<T> next(Class<T> entityClass) throws NullPointerException;
+
+    /**
+     * Get all the result in the traversal as Stream of the entity class. Just the properties mapped
+     * by the entity are fetched from the graph, so the unmapped ones neither are transferred nor deserialized.
+     *
+     * @param entityClass the entity class
+     * @param <T>         the entity type
+     * @return the entity result as {@link Stream}
+     * @throws NullPointerException when entityClass is null
+     */
+    <T> Stream<T> stream(Class<T> entityClass) throws NullPointerException;
+
     /**
      * Get the next n-number of results from the traversal.
      *
@@ -139,6 +163,26 @@ public interface VertexTraversal extends VertexConditionTraversal {
      */
     <T> Stream<T> next(int limit);
 
+    /**
+     * Returns the path of each vertex of the traversal, from the first vertex to it, as entities.
+     * It is usually combined with {@link VertexRepeatStepTraversal#simplePath()} to avoid cycles.
+     *
+     * @param <T> the entity type
+     * @return the paths as a {@link Stream} of entities list
+     */
+    <T> Stream<List<T>> path();
+
+    /**
+     * Binds a value to a {@link TraversalParam} used in the steps of this traversal. The steps are shared,
+     * so a traversal can be prepared once and then bound and executed many times.
+     *
+     * @param name  the parameter name
+     * @param value the value
+     * @return a {@link VertexTraversal} with the parameter bound
+     * @throws NullPointerException when either name or value are null
+     */
+    VertexTraversal bind(String name, Object value) throws NullPointerException;
+
     /**
      * Map the {@link org.apache.tinkerpop.gremlin.structure.Element} to a {@link java.util.Map} of the properties key'd according
      * to their {@link org.apache.tinkerpop.gremlin.structure.Property#key}.
@@ -150,6 +194,76 @@ public interface VertexTraversal extends VertexConditionTraversal {
     ValueMapTraversal valueMap(final String... propertyKeys);
 
 
+    /**
+     * Removes the repeated vertices of the traversal
+     *
+     * @return a {@link VertexTraversal} with the dedup step
+     */
+    VertexTraversal dedup();
+
+    /**
+     * Counts the vertices grouped by the value of the property, the vertices without the property are ignored.
+     * The reduction runs inside the traversal.
+     *
+     * @param propertyKey the property key
+     * @param <K>         the property type
+     * @return the number of vertices to each property value
+     * @throws NullPointerException when propertyKey is null
+     */
+    <K> Map<K, Long> groupCount(String propertyKey) throws NullPointerException;
+
+    /**
+     * Sums the values of a numeric property inside the traversal
+     *
+     * @param propertyKey the property key
+     * @return the sum
+     * @throws NullPointerException when propertyKey is null
+     */
+    Optional<Number> sum(String propertyKey) throws NullPointerException;
+
+    /**
+     * Returns the minimum value of a numeric property, it runs inside the traversal
+     *
+     * @param propertyKey the property key
+     * @return the minimum value otherwise {@link Optional#empty()}
+     * @throws NullPointerException when propertyKey is null
+     */
+    Optional<Number> min(String propertyKey) throws NullPointerException;
+
+    /**
+     * Returns the maximum value of a numeric property, it runs inside the traversal
+     *
+     * @param propertyKey the property key
+     * @return the maximum value otherwise {@link Optional#empty()}
+     * @throws NullPointerException when propertyKey is null
+     */
+    Optional<Number> max(String propertyKey) throws NullPointerException;
+
+    /**
+     * Returns the mean of a numeric property, it runs inside the traversal
+     *
+     * @param propertyKey the property key
+     * @return the mean otherwise {@link Optional#empty()}
+     * @throws NullPointerException when propertyKey is null
+     */
+    Optional<Double> mean(String propertyKey) throws NullPointerException;
+
+    /**
+     * Removes the vertices of this traversal with the drop step, the vertices are not loaded
+     */
+    void drop();
+
+    /**
+     * Removes the vertices of this traversal with the drop step in chunks of batchSize vertices.
+     * When the graph supports transactions, each chunk is committed in its own transaction, within a
+     * {@link Transactional} method the chunks join its transaction instead.
+     *
+     * @param batchSize the maximum number of vertices to each chunk
+     * @return the number of vertices removed
+     * @throws IllegalArgumentException when batchSize is not greater than zero
+     */
+    long drop(int batchSize) throws IllegalArgumentException;
+
     /**
      * Map the traversal next to its reduction as a sum of the elements
      *
@@ -73,7 +73,7 @@ abstract class AbstractGraphRepository<T, ID> implements Repository<T, ID> {
     @Override
     public Optional<T> findById(ID id) throws NullPointerException {
         requireNonNull(id, "id is required");
-        return getTemplate().find(id);
+        return getTemplate().find((Class<T>) getClassRepresentation().getClassInstance(), id);
     }
 
     @Override
@@ -15,20 +15,26 @@
 package org.jnosql.artemis.graph.query;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
-import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.graph.EntityCache;
+import org.jnosql.artemis.graph.Pagination;
 import org.jnosql.artemis.graph.VertexConverter;
-import org.jnosql.artemis.graph.util.TinkerPopUtil;
+import org.jnosql.artemis.graph.util.EntityCacheUtil;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static org.jnosql.artemis.graph.query.ReturnTypeConverterUtil.isSingleResult;
 import static org.jnosql.artemis.graph.query.ReturnTypeConverterUtil.returnObject;
+import static org.jnosql.artemis.graph.util.TinkerPopUtil.toStream;
 
 /**
  * Template method to {@link Repository} proxy on Graph
@@ -38,6 +44,7 @@ import static org.jnosql.artemis.graph.query.ReturnTypeConverterUtil.returnObjec
  */
 abstract class AbstractGraphRepositoryProxy<T, ID> implements InvocationHandler {
 
+    private final Map<Method, GraphRepositoryType> types = new ConcurrentHashMap<>();
 
     protected abstract ClassRepresentation getClassRepresentation();
 
@@ -49,11 +56,13 @@ abstract class AbstractGraphRepositoryProxy<T, ID> implements InvocationHandler
 
     protected abstract VertexConverter getVertexConverter();
 
+    protected abstract Optional<EntityCache> getCache();
+
 
     @Override
     public Object invoke(Object instance, Method method, Object[] args) throws Throwable {
         String methodName = method.getName();
-        GraphRepositoryType type = GraphRepositoryType.of(method, args);
+        GraphRepositoryType type = types.computeIfAbsent(method, m -> GraphRepositoryType.of(m, args));
 
         switch (type) {
             case DEFAULT:
@@ -62,6 +71,10 @@ abstract class AbstractGraphRepositoryProxy<T, ID> implements InvocationHandler
                 return executeFindByMethod(method, args, methodName);
             case DELETE_BY:
                 return executeDeleteMethod(args, methodName);
+            case EXISTS_BY:
+                return executeExistsMethod(args, methodName);
+            case COUNT_BY:
+                return executeCountMethod(method, args, methodName);
             case UNKNOWN:
             default:
                 return Void.class;
@@ -70,30 +83,57 @@ abstract class AbstractGraphRepositoryProxy<T, ID> implements InvocationHandler
     }
 
     private Object executeDeleteMethod(Object[] args, String methodName) {
-        GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V();
+        GraphTraversal<Vertex, Vertex> traversal = EntityCacheUtil.traversal(getGraph(), getCache()).V();
         getQueryParser().deleteByParse(methodName, args, getClassRepresentation(), traversal);
+        traversal.drop().iterate();
+        return Void.class;
+    }
 
-        List<?> vertices = traversal.toList();
+    private Object executeExistsMethod(Object[] args, String methodName) {
+        GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V();
+        getQueryParser().existsByParse(methodName, args, getClassRepresentation(), traversal);
+        return traversal.limit(1).hasNext();
+    }
 
-        for (Object element : vertices) {
-            if (Element.class.isInstance(element)) {
-                Element.class.cast(element).remove();
-            }
+    private Object executeCountMethod(Method method, Object[] args, String methodName) {
+        GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V();
+        getQueryParser().countByParse(methodName, args, getClassRepresentation(), traversal);
+        Long count = traversal.count().next();
+
+        Class<?> returnType = method.getReturnType();
+        if (int.class.equals(returnType) || Integer.class.equals(returnType)) {
+            return Math.toIntExact(count);
         }
-        return Void.class;
+        return count;
     }
 
     private Object executeFindByMethod(Method method, Object[] args, String methodName) {
         Class<?> classInstance = getClassRepresentation().getClassInstance();
-        GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V();
-        getQueryParser().findByParse(methodName, args, getClassRepresentation(), traversal);
-
-        List<Vertex> vertices = traversal.toList();
-
-        Stream<T> stream = vertices.stream().map(TinkerPopUtil::toArtemisVertex)
-                .map(getVertexConverter()::toEntity);
+        boolean singleResult = isSingleResult(classInstance, method);
+        Optional<Pagination> pagination = getPagination(args);
+
+        Supplier<Stream<?>> stream = () -> {
+            GraphTraversal<Vertex, Vertex> traversal = getGraph().traversal().V();
+            getQueryParser().findByParse(methodName, args, getClassRepresentation(), traversal);
+            pagination.ifPresent(p -> traversal.range(p.getFirstResult(), p.getLastResult()));
+            if (singleResult) {
+                traversal.limit(1);
+            }
+            return toStream(traversal).map(getVertexConverter()::toEntity);
+        };
 
         return returnObject(stream, classInstance, method);
     }
 
+    private Optional<Pagination> getPagination(Object[] args) {
+        if (args == null || args.length == 0) {
+            return Optional.empty();
+        }
+        Object last = args[args.length - 1];
+        if (last instanceof Pagination) {
+            return Optional.of((Pagination) last);
+        }
+        return Optional.empty();
+    }
+
 }
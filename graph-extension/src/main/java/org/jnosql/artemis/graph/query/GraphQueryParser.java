@@ -17,19 +17,34 @@ package org.jnosql.artemis.graph.query;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 
-import static org.jnosql.artemis.graph.query.GraphQueryParserUtil.feedTraversal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.jnosql.artemis.graph.query.GraphQueryParserUtil.AND;
+import static org.jnosql.artemis.graph.query.GraphQueryParserUtil.compile;
 import static org.jnosql.artemis.graph.query.TokenProcessorType.isNotGraphToken;
 
 
+/**
+ * Parses the query methods to traversal steps. The method name is parsed once, the steps are cached and
+ * each call only binds its arguments.
+ */
 class GraphQueryParser {
 
 
     private static final String PREFIX_FIND_BY = "findBy";
     private static final String PREFIX_DELETE_BY = "deleteBy";
+    private static final String PREFIX_EXISTS_BY = "existsBy";
+    private static final String PREFIX_COUNT_BY = "countBy";
     private static final String TOKENIZER = "(?=And)";
 
     private static final String EMPTY = "";
 
+    private final Map<String, List<GraphQueryStep>> plans = new ConcurrentHashMap<>();
+
 
     public void findByParse(String methodName, Object[] args, ClassRepresentation representation,
                             GraphTraversal<?, ?> traversal) {
@@ -44,23 +59,45 @@ class GraphQueryParser {
         parse(methodName, args, representation, traversal, PREFIX_DELETE_BY);
     }
 
+    public void existsByParse(String methodName, Object[] args, ClassRepresentation representation,
+                              GraphTraversal<?, ?> traversal) {
+
+        parse(methodName, args, representation, traversal, PREFIX_EXISTS_BY);
+    }
+
+    public void countByParse(String methodName, Object[] args, ClassRepresentation representation,
+                             GraphTraversal<?, ?> traversal) {
+
+        parse(methodName, args, representation, traversal, PREFIX_COUNT_BY);
+    }
+
 
     private void parse(String methodName, Object[] args, ClassRepresentation representation,
                        GraphTraversal<?, ?> traversal, String parse) {
 
+        List<GraphQueryStep> steps = plans.computeIfAbsent(methodName, m -> compilePlan(m, representation, parse));
+        for (GraphQueryStep step : steps) {
+            step.apply(args, traversal);
+        }
+    }
+
+    private List<GraphQueryStep> compilePlan(String methodName, ClassRepresentation representation, String parse) {
 
         String[] tokens = methodName.replace(parse, EMPTY).split(TOKENIZER);
+        List<GraphQueryStep> steps = new ArrayList<>(tokens.length);
         int index = 0;
         for (String token : tokens) {
-            if (token.startsWith(GraphQueryParserUtil.AND)) {
-                index = GraphQueryParserUtil.and(args, index, token, methodName, representation, traversal);
+            if (token.startsWith(AND)) {
+                steps.add(compile(token.replace(AND, EMPTY), index, methodName, representation));
+                index = GraphQueryParserUtil.and(index, token);
             } else {
-                feedTraversal(token, index, args, methodName, representation, traversal);
+                steps.add(compile(token, index, methodName, representation));
                 if (isNotGraphToken(token)) {
                     index++;
                 }
             }
         }
+        return Collections.unmodifiableList(steps);
     }
 
 
@@ -14,7 +14,6 @@
  */
 package org.jnosql.artemis.graph.query;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 
 import static org.jnosql.artemis.graph.query.TokenProcessorType.isBetweenToken;
@@ -29,27 +28,17 @@ final class GraphQueryParserUtil {
     private GraphQueryParserUtil() {
     }
 
-    static void feedTraversal(String token,
-                              int index,
-                              Object[] args,
-                              String methodName,
-                              ClassRepresentation representation,
-                              GraphTraversal<?, ?> traversal) {
+    static GraphQueryStep compile(String token,
+                                  int index,
+                                  String methodName,
+                                  ClassRepresentation representation) {
 
         TokenProcessor tokenProcessor = TokenProcessorType.of(token);
-        tokenProcessor.process(token, index, args, methodName, representation, traversal);
+        return tokenProcessor.compile(token, index, methodName, representation);
     }
 
 
-    static int and(Object[] args,
-                   int index,
-                   String token,
-                   String methodName,
-                   ClassRepresentation representation,
-                   GraphTraversal<?, ?> traversal) {
-        String field = token.replace(AND, EMPTY);
-        feedTraversal(field, index, args, methodName, representation, traversal);
-
+    static int and(int index, String token) {
         if (isBetweenToken(token)) {
             return index + 2;
         } else if (isGraphToken(token)) {
@@ -59,7 +48,4 @@ final class GraphQueryParserUtil {
         }
     }
 
-
-
-
 }
@@ -16,6 +16,7 @@ package org.jnosql.artemis.graph.query;
 
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.graph.EntityCache;
 import org.jnosql.artemis.graph.GraphTemplate;
 import org.jnosql.artemis.graph.VertexConverter;
 import org.jnosql.artemis.reflection.ClassRepresentation;
@@ -23,6 +24,7 @@ import org.jnosql.artemis.reflection.ClassRepresentations;
 import org.jnosql.artemis.reflection.Reflections;
 
 import java.lang.reflect.ParameterizedType;
+import java.util.Optional;
 
 /**
  * Proxy handle to generate {@link Repository}
@@ -46,10 +48,11 @@ class GraphRepositoryProxy<T, ID> extends AbstractGraphRepositoryProxy<T, ID> {
 
     private final VertexConverter converter;
 
+    private final Optional<EntityCache> cache;
 
     GraphRepositoryProxy(GraphTemplate template, ClassRepresentations classRepresentations,
                          Class<?> repositoryType, Reflections reflections,
-                         Graph graph, VertexConverter converter) {
+                         Graph graph, VertexConverter converter, Optional<EntityCache> cache) {
 
         Class<T> typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0]);
@@ -57,6 +60,7 @@ class GraphRepositoryProxy<T, ID> extends AbstractGraphRepositoryProxy<T, ID> {
         this.template = template;
         this.graph = graph;
         this.converter = converter;
+        this.cache = cache;
         this.reflections = reflections;
         this.classRepresentation = classRepresentations.get(typeClass);
         this.queryParser = new GraphQueryParser();
@@ -89,6 +93,11 @@ class GraphRepositoryProxy<T, ID> extends AbstractGraphRepositoryProxy<T, ID> {
         return converter;
     }
 
+    @Override
+    protected Optional<EntityCache> getCache() {
+        return cache;
+    }
+
 
     class GraphRepository extends AbstractGraphRepository implements Repository {
 
@@ -18,7 +18,7 @@ import java.lang.reflect.Method;
 
 public enum GraphRepositoryType {
 
-    DEFAULT, FIND_BY, DELETE_BY, UNKNOWN;
+    DEFAULT, FIND_BY, DELETE_BY, EXISTS_BY, COUNT_BY, UNKNOWN;
 
 
     static GraphRepositoryType of(Method method, Object[] args) {
@@ -37,6 +37,10 @@ public enum GraphRepositoryType {
             return FIND_BY;
         } else if (methodName.startsWith("deleteBy")) {
             return DELETE_BY;
+        } else if (methodName.startsWith("existsBy")) {
+            return EXISTS_BY;
+        } else if (methodName.startsWith("countBy")) {
+            return COUNT_BY;
         }
         return UNKNOWN;
     }
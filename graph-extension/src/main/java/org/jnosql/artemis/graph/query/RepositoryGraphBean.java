@@ -18,6 +18,7 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.jnosql.artemis.DatabaseQualifier;
 import org.jnosql.artemis.DatabaseType;
 import org.jnosql.artemis.Repository;
+import org.jnosql.artemis.graph.EntityCache;
 import org.jnosql.artemis.graph.GraphTemplate;
 import org.jnosql.artemis.graph.VertexConverter;
 import org.jnosql.artemis.reflection.ClassRepresentations;
@@ -34,6 +35,7 @@ import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -98,13 +100,21 @@ public class RepositoryGraphBean implements Bean<Repository>, PassivationCapable
                 getInstance(Graph.class, provider);
 
         GraphRepositoryProxy handler = new GraphRepositoryProxy(repository,
-                classRepresentations, type, reflections, graph, vertexConverter);
+                classRepresentations, type, reflections, graph, vertexConverter, getCache());
         return (Repository) Proxy.newProxyInstance(type.getClassLoader(),
                 new Class[]{type},
                 handler);
     }
 
 
+    private Optional<EntityCache> getCache() {
+        Set<Bean<?>> beans = beanManager.getBeans(EntityCache.class);
+        if (beans.size() != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(getInstance(EntityCache.class));
+    }
+
     private <T> T getInstance(Class<T> clazz) {
         Bean<T> bean = (Bean<T>) beanManager.getBeans(clazz).iterator().next();
         CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
@@ -21,8 +21,14 @@ import java.util.Optional;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
@@ -32,27 +38,89 @@ final class ReturnTypeConverterUtil {
     private ReturnTypeConverterUtil() {
     }
 
-    public static Object returnObject(Stream stream, Class typeClass, Method method) {
+    /**
+     * Checks if the method returns at most one entity, so the query can be limited to one result
+     *
+     * @param typeClass the entity class
+     * @param method    the method
+     * @return true when the return is either the entity or an {@link Optional}
+     */
+    static boolean isSingleResult(Class<?> typeClass, Method method) {
+        return isSingleResult(typeClass, method.getReturnType());
+    }
+
+    private static boolean isSingleResult(Class<?> typeClass, Class<?> returnType) {
+        return typeClass.equals(returnType) || Optional.class.equals(returnType);
+    }
+
+    /**
+     * Converts the query result to the method return. A {@link Stream} is lazy, the query is executed when it is
+     * consumed and the underlying stream is closed once it is exhausted or closed, a short-circuiting operation
+     * still requires closing it. An {@link Iterable} is lazy as well, the query is executed at the first
+     * {@link Iterable#iterator()} call and it can be iterated just once, like a {@link Stream}.
+     * The other types are collected and the stream closed before returning.
+     *
+     * @param supplier  the query result, each call executes the query
+     * @param typeClass the entity class
+     * @param method    the method
+     * @return the method return
+     */
+    public static Object returnObject(Supplier<Stream<?>> supplier, Class typeClass, Method method) {
         Class<?> returnType = method.getReturnType();
 
-        if (typeClass.equals(returnType)) {
-            Optional<?> optional = stream.findFirst();
-            return optional.orElse(null);
-
-        } else if (Optional.class.equals(returnType)) {
-            return stream.findFirst();
-        } else if (List.class.equals(returnType)
-                || Iterable.class.equals(returnType)
-                || Collection.class.equals(returnType)) {
-            return stream.collect(toList());
-        } else if (Set.class.equals(returnType)) {
-            return stream.collect(toSet());
-        } else if (Queue.class.equals(returnType)) {
+        if (Iterable.class.equals(returnType)) {
+            return singleUse(supplier);
+        } else if (!isCollected(typeClass, returnType)) {
+            return closeWhenExhausted(supplier.get());
+        }
+
+        try (Stream<?> stream = supplier.get()) {
+            if (typeClass.equals(returnType)) {
+                Optional<?> optional = stream.findFirst();
+                return optional.orElse(null);
+            } else if (Optional.class.equals(returnType)) {
+                return stream.findFirst();
+            } else if (List.class.equals(returnType)
+                    || Collection.class.equals(returnType)) {
+                return stream.collect(toList());
+            } else if (Set.class.equals(returnType)) {
+                return stream.collect(toSet());
+            }
             return stream.collect(Collectors.toCollection(PriorityQueue::new));
-        } else if (Stream.class.equals(returnType)) {
-            return stream;
         }
+    }
+
+    private static Iterable<Object> singleUse(Supplier<Stream<?>> supplier) {
+        AtomicBoolean iterated = new AtomicBoolean();
+        return () -> {
+            if (iterated.getAndSet(true)) {
+                throw new IllegalStateException("The result has already been iterated");
+            }
+            return closeWhenExhausted(supplier.get()).iterator();
+        };
+    }
+
+    private static Stream<Object> closeWhenExhausted(Stream<?> stream) {
+        Spliterator<?> spliterator = stream.spliterator();
+        Spliterator<Object> closing = new Spliterators.AbstractSpliterator<Object>(spliterator.estimateSize(),
+                spliterator.characteristics()) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Object> action) {
+                if (spliterator.tryAdvance(action)) {
+                    return true;
+                }
+                stream.close();
+                return false;
+            }
+        };
+        return StreamSupport.stream(closing, false).onClose(stream::close);
+    }
 
-        return stream;
+    private static boolean isCollected(Class<?> typeClass, Class<?> returnType) {
+        return isSingleResult(typeClass, returnType)
+                || List.class.equals(returnType)
+                || Collection.class.equals(returnType)
+                || Set.class.equals(returnType)
+                || Queue.class.equals(returnType);
     }
 }
@@ -14,15 +14,12 @@
  */
 package org.jnosql.artemis.graph.query;
 
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 
 interface TokenProcessor {
 
-    GraphTraversal<?, ?> process(String token,
-                                       int index,
-                                       Object[] args,
-                                       String methodName,
-                                       ClassRepresentation representation,
-                                       GraphTraversal<?, ?> traversal);
+    GraphQueryStep compile(String token,
+                           int index,
+                           String methodName,
+                           ClassRepresentation representation);
 }
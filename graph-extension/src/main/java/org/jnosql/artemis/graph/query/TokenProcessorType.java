@@ -15,7 +15,6 @@
 package org.jnosql.artemis.graph.query;
 
 import org.apache.tinkerpop.gremlin.process.traversal.P;
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.jnosql.artemis.DynamicQueryException;
 import org.jnosql.artemis.reflection.ClassRepresentation;
 
@@ -27,79 +26,97 @@ enum TokenProcessorType implements TokenProcessor {
 
     BETWEEN("Between") {
         @Override
-        public GraphTraversal<?, ?> process(String token, int index, Object[] args, String methodName, ClassRepresentation representation, GraphTraversal<?, ?> traversal) {
-            checkContents(index, args.length, 2, methodName);
+        public GraphQueryStep compile(String token, int index, String methodName, ClassRepresentation representation) {
             String name = getName(token, representation).replace(this.getType(), EMPTY);
-            return traversal.has(name, P.between(args[index], args[++index]));
+            return (args, traversal) -> {
+                checkContents(index, args.length, 2, methodName);
+                return traversal.has(name, P.between(args[index], args[index + 1]));
+            };
         }
     },
     OUT_V("OutV") {
         @Override
-        public GraphTraversal<?, ?> process(String token, int index, Object[] args, String methodName, ClassRepresentation representation, GraphTraversal<?, ?> traversal) {
+        public GraphQueryStep compile(String token, int index, String methodName, ClassRepresentation representation) {
 
             if (this.getType().equals(token)) {
-                checkContents(index, args.length, 1, methodName);
-                return traversal.out(args[index].toString());
+                return (args, traversal) -> {
+                    checkContents(index, args.length, 1, methodName);
+                    return traversal.out(args[index].toString());
+                };
             }
 
             String label = getName(token).replace(this.getType(), EMPTY);
-            return traversal.out(label);
+            return (args, traversal) -> traversal.out(label);
         }
     }, IN_V("InV") {
         @Override
-        public GraphTraversal<?, ?> process(String token, int index, Object[] args, String methodName, ClassRepresentation representation, GraphTraversal<?, ?> traversal) {
+        public GraphQueryStep compile(String token, int index, String methodName, ClassRepresentation representation) {
 
             if (this.getType().equals(token)) {
-                checkContents(index, args.length, 1, methodName);
-                return traversal.in(args[index].toString());
+                return (args, traversal) -> {
+                    checkContents(index, args.length, 1, methodName);
+                    return traversal.in(args[index].toString());
+                };
             }
             String label = getName(token).replace(this.getType(), EMPTY);
-            return traversal.in(label);
+            return (args, traversal) -> traversal.in(label);
         }
     }, BOTH_V("BothV") {
         @Override
-        public GraphTraversal<?, ?> process(String token, int index, Object[] args, String methodName, ClassRepresentation representation, GraphTraversal<?, ?> traversal) {
+        public GraphQueryStep compile(String token, int index, String methodName, ClassRepresentation representation) {
             if (this.getType().equals(token)) {
-                checkContents(index, args.length, 1, methodName);
-                return traversal.both(args[index].toString());
+                return (args, traversal) -> {
+                    checkContents(index, args.length, 1, methodName);
+                    return traversal.both(args[index].toString());
+                };
             }
             String label = getName(token).replace(this.getType(), EMPTY);
-            return traversal.both(label);
+            return (args, traversal) -> traversal.both(label);
         }
     }, LESSA_THAN_EQUAL("LessThanEqual") {
         @Override
-        public GraphTraversal<?, ?> process(String token, int index, Object[] args, String methodName, ClassRepresentation representation, GraphTraversal<?, ?> traversal) {
-            checkContents(index, args.length, 1, methodName);
+        public GraphQueryStep compile(String token, int index, String methodName, ClassRepresentation representation) {
             String name = getName(token, representation).replace(this.getType(), EMPTY);
-            return traversal.has(name, P.lte(args[index]));
+            return (args, traversal) -> {
+                checkContents(index, args.length, 1, methodName);
+                return traversal.has(name, P.lte(args[index]));
+            };
         }
     }, GREATER_THAN_EQUAL("GreaterThanEqual") {
         @Override
-        public GraphTraversal<?, ?> process(String token, int index, Object[] args, String methodName, ClassRepresentation representation, GraphTraversal<?, ?> traversal) {
-            checkContents(index, args.length, 1, methodName);
+        public GraphQueryStep compile(String token, int index, String methodName, ClassRepresentation representation) {
             String name = getName(token, representation).replace(this.getType(), EMPTY);
-            return traversal.has(name, P.gte(args[index]));
+            return (args, traversal) -> {
+                checkContents(index, args.length, 1, methodName);
+                return traversal.has(name, P.gte(args[index]));
+            };
         }
     }, LESS_THAN("LessThan") {
         @Override
-        public GraphTraversal<?, ?> process(String token, int index, Object[] args, String methodName, ClassRepresentation representation, GraphTraversal<?, ?> traversal) {
-            checkContents(index, args.length, 1, methodName);
+        public GraphQueryStep compile(String token, int index, String methodName, ClassRepresentation representation) {
             String name = getName(token, representation).replace(this.getType(), EMPTY);
-            return traversal.has(name, P.lt(args[index]));
+            return (args, traversal) -> {
+                checkContents(index, args.length, 1, methodName);
+                return traversal.has(name, P.lt(args[index]));
+            };
         }
     }, GREATER_THAN("GreaterThan") {
         @Override
-        public GraphTraversal<?, ?> process(String token, int index, Object[] args, String methodName, ClassRepresentation representation, GraphTraversal<?, ?> traversal) {
-            checkContents(index, args.length, 1, methodName);
+        public GraphQueryStep compile(String token, int index, String methodName, ClassRepresentation representation) {
             String name = getName(token, representation).replace(this.getType(), EMPTY);
-            return traversal.has(name, P.gt(args[index]));
+            return (args, traversal) -> {
+                checkContents(index, args.length, 1, methodName);
+                return traversal.has(name, P.gt(args[index]));
+            };
         }
     }, DEFAULT("") {
         @Override
-        public GraphTraversal<?, ?> process(String token, int index, Object[] args, String methodName, ClassRepresentation representation, GraphTraversal<?, ?> traversal) {
-            checkContents(index, args.length, 1, methodName);
+        public GraphQueryStep compile(String token, int index, String methodName, ClassRepresentation representation) {
             String name = getName(token, representation);
-            return traversal.has(name, args[index]);
+            return (args, traversal) -> {
+                checkContents(index, args.length, 1, methodName);
+                return traversal.has(name, args[index]);
+            };
         }
     };
 
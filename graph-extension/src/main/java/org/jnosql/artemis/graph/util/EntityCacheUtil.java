@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.MutationListener;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.EventStrategy;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.jnosql.artemis.graph.EntityCache;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utils class to keep an {@link EntityCache} in sync with the changes in a {@link Graph}. A vertex is invalidated
+ * right away and, when the graph supports transactions, again once the transaction of the current thread either
+ * commits or rolls back, so a concurrent find that loaded the old value before the commit does not keep it.
+ */
+public final class EntityCacheUtil {
+
+    private static final ThreadLocal<Map<Transaction, Map<EntityCache, Set<SimpleImmutableEntry<String, Object>>>>>
+            PENDING = ThreadLocal.withInitial(WeakHashMap::new);
+
+    private EntityCacheUtil() {
+    }
+
+    /**
+     * Returns the traversal source of the graph, when there is a cache the vertices dropped or changed by the
+     * traversals of this source are invalidated.
+     *
+     * @param graph the graph
+     * @param cache the cache
+     * @return the {@link GraphTraversalSource}
+     * @throws NullPointerException when either graph or cache are null
+     */
+    public static GraphTraversalSource traversal(Graph graph, Optional<EntityCache> cache) throws NullPointerException {
+        requireNonNull(graph, "graph is required");
+        requireNonNull(cache, "cache is required");
+        return cache.map(c -> graph.traversal()
+                .withStrategies(EventStrategy.build().addListener(new InvalidationListener(graph, c)).create()))
+                .orElseGet(graph::traversal);
+    }
+
+    /**
+     * Invalidates the vertex now and once the transaction of the current thread finishes
+     *
+     * @param graph the graph
+     * @param cache the cache
+     * @param label the vertex label
+     * @param id    the vertex id
+     * @throws NullPointerException when there are any element null
+     */
+    public static void invalidate(Graph graph, EntityCache cache, String label, Object id)
+            throws NullPointerException {
+        requireNonNull(graph, "graph is required");
+        requireNonNull(cache, "cache is required");
+        requireNonNull(label, "label is required");
+        requireNonNull(id, "id is required");
+
+        cache.invalidate(label, id);
+        if (!graph.features().graph().supportsTransactions()) {
+            return;
+        }
+        Transaction transaction = graph.tx();
+        if (!transaction.isOpen()) {
+            return;
+        }
+        Map<EntityCache, Set<SimpleImmutableEntry<String, Object>>> pending =
+                PENDING.get().computeIfAbsent(transaction, EntityCacheUtil::listen);
+        synchronized (pending) {
+            pending.computeIfAbsent(cache, c -> new HashSet<>()).add(new SimpleImmutableEntry<>(label, id));
+        }
+    }
+
+    /**
+     * The listener is registered once to each thread and transaction, as the graph providers keep them
+     * to the thread until they are cleared.
+     */
+    private static Map<EntityCache, Set<SimpleImmutableEntry<String, Object>>> listen(Transaction transaction) {
+        Map<EntityCache, Set<SimpleImmutableEntry<String, Object>>> pending = new IdentityHashMap<>();
+        transaction.addTransactionListener(status -> {
+            synchronized (pending) {
+                pending.forEach((cache, keys) -> keys.forEach(k -> cache.invalidate(k.getKey(), k.getValue())));
+                pending.clear();
+            }
+        });
+        return pending;
+    }
+
+    private static final class InvalidationListener implements MutationListener {
+
+        private final Graph graph;
+
+        private final EntityCache cache;
+
+        private InvalidationListener(Graph graph, EntityCache cache) {
+            this.graph = graph;
+            this.cache = cache;
+        }
+
+        @Override
+        public void vertexAdded(Vertex vertex) {
+            invalidate(graph, cache, vertex.label(), vertex.id());
+        }
+
+        @Override
+        public void vertexRemoved(Vertex vertex) {
+            invalidate(graph, cache, vertex.label(), vertex.id());
+        }
+
+        @Override
+        public void vertexPropertyChanged(Vertex element, VertexProperty oldValue, Object setValue,
+                                          Object... vertexPropertyKeyValues) {
+            invalidate(graph, cache, element.label(), element.id());
+        }
+
+        @Override
+        public void vertexPropertyRemoved(VertexProperty vertexProperty) {
+            Vertex vertex = vertexProperty.element();
+            invalidate(graph, cache, vertex.label(), vertex.id());
+        }
+
+        @Override
+        public void edgeAdded(Edge edge) {
+        }
+
+        @Override
+        public void edgeRemoved(Edge edge) {
+        }
+
+        @Override
+        public void edgePropertyChanged(Edge element, Property oldValue, Object setValue) {
+        }
+
+        @Override
+        public void edgePropertyRemoved(Edge element, Property property) {
+        }
+
+        @Override
+        public void vertexPropertyPropertyChanged(VertexProperty element, Property oldValue, Object setValue) {
+        }
+
+        @Override
+        public void vertexPropertyPropertyRemoved(VertexProperty element, Property property) {
+        }
+    }
+}
@@ -14,6 +14,9 @@
  */
 package org.jnosql.artemis.graph.util;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -22,6 +25,15 @@ import org.jnosql.artemis.graph.EdgeEntity;
 import org.jnosql.artemis.graph.VertexConverter;
 import org.jnosql.diana.api.Value;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 import static org.apache.tinkerpop.gremlin.structure.T.id;
@@ -33,6 +45,18 @@ import static org.apache.tinkerpop.gremlin.structure.T.label;
  */
 public final class TinkerPopUtil {
 
+    /**
+     * The key of the vertex id in a {@code project(PROJECTION_ID, PROJECTION_LABEL)} step, it is hidden,
+     * so it does not clash with a property key
+     */
+    public static final String PROJECTION_ID = Graph.Hidden.hide(id.getAccessor());
+
+    /**
+     * The key of the vertex label in a {@code project(PROJECTION_ID, PROJECTION_LABEL)} step, it is hidden,
+     * so it does not clash with a property key
+     */
+    public static final String PROJECTION_LABEL = Graph.Hidden.hide(label.getAccessor());
+
     private TinkerPopUtil() {
     }
 
@@ -55,6 +79,36 @@ public final class TinkerPopUtil {
         return artemisVertex;
     }
 
+    /**
+     * Converts the result of {@code valueMap(true, keys)} step to ArtemisVertex.
+     * The map has both the {@link org.apache.tinkerpop.gremlin.structure.T#id} and
+     * {@link org.apache.tinkerpop.gremlin.structure.T#label} tokens and each property value is wrapped in a list.
+     * The result of {@code project(PROJECTION_ID, PROJECTION_LABEL).by(T.id).by(T.label)} step is accepted as well,
+     * see {@link #PROJECTION_ID} and {@link #PROJECTION_LABEL}.
+     *
+     * @param valueMap the value map from the traversal
+     * @return the Artemis Vertex
+     * @throws NullPointerException when either valueMap or its label are null
+     */
+    public static ArtemisVertex toArtemisVertex(Map<?, ?> valueMap) throws NullPointerException {
+        requireNonNull(valueMap, "valueMap is required");
+        boolean projection = valueMap.containsKey(PROJECTION_LABEL);
+        Object vertexLabel = requireNonNull(valueMap.get(projection ? PROJECTION_LABEL : label),
+                "label is required");
+
+        ArtemisVertex artemisVertex = ofNullable(valueMap.get(projection ? PROJECTION_ID : id))
+                .map(i -> ArtemisVertex.of(vertexLabel.toString(), i))
+                .orElseGet(() -> ArtemisVertex.of(vertexLabel.toString()));
+
+        valueMap.forEach((key, value) -> {
+            if (key instanceof String && !Graph.Hidden.isHidden(key.toString())) {
+                Object property = value instanceof List ? ((List<?>) value).get(0) : value;
+                artemisVertex.add(key.toString(), property);
+            }
+        });
+        return artemisVertex;
+    }
+
     /**
      * Converts {@link ArtemisVertex} to {@link Vertex}
      *
@@ -68,7 +122,7 @@ public final class TinkerPopUtil {
         requireNonNull(artemisVertex, "artemisVertex is required");
         requireNonNull(graph, "graph is required");
         Vertex vertex = artemisVertex.getId().map(v -> graph.addVertex(label, artemisVertex.getLabel(), id, v.get()))
-                .orElse(graph.addVertex(artemisVertex.getLabel()));
+                .orElseGet(() -> graph.addVertex(artemisVertex.getLabel()));
 
         artemisVertex.getProperties()
                 .forEach(p -> vertex.property(p.getKey(), p.get()));
@@ -91,9 +145,98 @@ public final class TinkerPopUtil {
         requireNonNull(edge, "edge is required");
         requireNonNull(converter, "converter is required");
 
-        ArtemisVertex inVertex = toArtemisVertex(edge.inVertex());
-        ArtemisVertex outVertex = toArtemisVertex(edge.outVertex());
-        return EdgeEntity.of(converter.toEntity(outVertex), edge, converter.toEntity(inVertex));
+        OUT outbound = converter.toEntity(edge.outVertex());
+        IN inbound = converter.toEntity(edge.inVertex());
+        return EdgeEntity.of(outbound, edge, inbound);
+
+    }
+
+    /**
+     * Creates a lazy {@link Stream} backed by the {@link Traversal} iterator, so the elements are pulled
+     * from the graph on demand instead of being collected first. Closing the stream closes the traversal.
+     *
+     * @param traversal the traversal
+     * @param <E>       the element type
+     * @return a {@link Stream} from the traversal
+     * @throws NullPointerException when traversal is null
+     */
+    public static <E> Stream<E> toStream(Traversal<?, E> traversal) throws NullPointerException {
+        requireNonNull(traversal, "traversal is required");
+        Spliterator<E> spliterator = Spliterators.spliteratorUnknownSize(traversal, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(() -> close(traversal));
+    }
+
+    /**
+     * Drops the elements of a traversal in chunks of batchSize elements with the drop step, so the elements are
+     * neither loaded nor kept in memory. Each chunk is committed when the graph supports transactions.
+     *
+     * @param supplier  the traversal supplier, it is called once to each chunk
+     * @param batchSize the maximum number of elements to each chunk
+     * @return the number of elements dropped
+     * @throws NullPointerException     when supplier is null
+     * @throws IllegalArgumentException when batchSize is not greater than zero
+     */
+    public static long drop(Supplier<GraphTraversal<?, ?>> supplier, int batchSize) throws NullPointerException,
+            IllegalArgumentException {
+        return drop(supplier, batchSize, true);
+    }
+
+    /**
+     * Drops the elements of a traversal in chunks of batchSize elements with the drop step, so the elements are
+     * neither loaded nor kept in memory. When commit is false the chunks join the open transaction, which is
+     * either committed or rolled back by its owner, e.g. a {@link org.jnosql.artemis.graph.Transactional} method.
+     *
+     * @param supplier  the traversal supplier, it is called once to each chunk
+     * @param batchSize the maximum number of elements to each chunk
+     * @param commit    whether each chunk is committed when the graph supports transactions
+     * @return the number of elements dropped
+     * @throws NullPointerException     when supplier is null
+     * @throws IllegalArgumentException when batchSize is not greater than zero
+     */
+    public static long drop(Supplier<GraphTraversal<?, ?>> supplier, int batchSize, boolean commit)
+            throws NullPointerException, IllegalArgumentException {
+        requireNonNull(supplier, "supplier is required");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batchSize must be greater than zero");
+        }
+
+        long total = 0;
+        long dropped;
+        do {
+            GraphTraversal<?, ?> traversal = supplier.get();
+            Optional<Graph> graph = traversal.asAdmin().getGraph()
+                    .filter(g -> commit && g.features().graph().supportsTransactions());
+            try {
+                dropped = traversal.limit(batchSize).sideEffect(__.drop()).count().next();
+                graph.ifPresent(g -> g.tx().commit());
+            } catch (RuntimeException exception) {
+                graph.ifPresent(g -> g.tx().rollback());
+                throw exception;
+            }
+            total += dropped;
+        } while (dropped == batchSize);
+        return total;
+    }
+
+    /**
+     * Returns the next number of a reducing traversal, such as sum, min, max and mean. A {@link Double#NaN}, the
+     * value of a reduction without elements, is returned as {@link Optional#empty()}
+     *
+     * @param traversal the traversal
+     * @param <N>       the number type
+     * @return the number otherwise {@link Optional#empty()}
+     * @throws NullPointerException when traversal is null
+     */
+    public static <N extends Number> Optional<N> nextNumber(Traversal<?, N> traversal) throws NullPointerException {
+        requireNonNull(traversal, "traversal is required");
+        return traversal.tryNext().filter(n -> !(n instanceof Double && ((Double) n).isNaN()));
+    }
 
+    private static void close(Traversal<?, ?> traversal) {
+        try {
+            traversal.close();
+        } catch (Exception exception) {
+            throw new IllegalStateException("An error when the traversal was closed", exception);
+        }
     }
 }
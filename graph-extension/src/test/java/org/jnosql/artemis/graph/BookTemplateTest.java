@@ -20,12 +20,17 @@ import org.apache.tinkerpop.gremlin.structure.Transaction.Status;
 import org.jnosql.artemis.graph.cdi.CDIJUnitRunner;
 import org.jnosql.artemis.graph.model.Book;
 import org.jnosql.artemis.graph.model.BookTemplate;
+import org.jnosql.artemis.graph.model.LibraryTemplate;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.apache.tinkerpop.gremlin.structure.Transaction.Status.COMMIT;
 import static org.apache.tinkerpop.gremlin.structure.Transaction.Status.ROLLBACK;
 import static org.junit.Assert.assertEquals;
@@ -39,6 +44,12 @@ public class BookTemplateTest {
     @Inject
     private BookTemplate template;
 
+    @Inject
+    private LibraryTemplate library;
+
+    @Inject
+    private GraphTemplate graphTemplate;
+
     @Inject
     private Graph graph;
 
@@ -84,4 +95,57 @@ public class BookTemplateTest {
         assertTrue(transaction.isOpen());
        assertNull(status.get());
     }
+
+    @Test
+    public void shouldCommitOnceWhenNested() {
+        List<Status> status = new ArrayList<>();
+        Transaction transaction = graph.tx();
+        transaction.addTransactionListener(status::add);
+
+        library.insert(Book.builder().withName("The Book").build(), Book.builder().withName("The Book 2").build());
+        assertFalse(transaction.isOpen());
+        assertEquals(singletonList(COMMIT), status);
+    }
+
+    @Test
+    public void shouldRollbackTheOuterTransactionWhenNested() {
+        List<Status> status = new ArrayList<>();
+        Transaction transaction = graph.tx();
+        transaction.addTransactionListener(status::add);
+        try {
+            library.insertException(Book.builder().withName("The Book").build());
+            assert false;
+        } catch (Exception ex) {
+
+        }
+
+        assertFalse(transaction.isOpen());
+        assertEquals(singletonList(ROLLBACK), status);
+    }
+
+    @Test
+    public void shouldCommitOnceWhenBatchRunsWithinTransaction() {
+        List<Status> status = new ArrayList<>();
+        Transaction transaction = graph.tx();
+        transaction.addTransactionListener(status::add);
+
+        List<Book> books = asList(Book.builder().withName("The Book").build(),
+                Book.builder().withName("The Book 2").build(), Book.builder().withName("The Book 3").build());
+        assertEquals(3L, template.insert(books, 1).getCount());
+        assertFalse(transaction.isOpen());
+        assertEquals(singletonList(COMMIT), status);
+    }
+
+    @Test
+    public void shouldNotCommitReadOnlyTransaction() {
+        Book book = graphTemplate.insert(Book.builder().withName("The Book").build());
+        Transaction transaction = graph.tx();
+        transaction.commit();
+
+        List<Status> status = new ArrayList<>();
+        transaction.addTransactionListener(status::add);
+        assertTrue(template.find(book.getId()).isPresent());
+        assertFalse(transaction.isOpen());
+        assertEquals(singletonList(ROLLBACK), status);
+    }
 }
@@ -172,6 +172,26 @@ public class DefaultEdgeTraversalTest extends AbstractTraversalTest {
         assertEquals(3L, count);
     }
 
+    @Test
+    public void shouldGroupCount() {
+        Map<String, Long> motivations = graphTemplate.getTraversalVertex().outE(READS).groupCount("motivation");
+        assertEquals(3, motivations.size());
+        assertEquals(Long.valueOf(1L), motivations.get("job"));
+    }
+
+    @Test
+    public void shouldDedup() {
+        long count = graphTemplate.getTraversalEdge(reads.getId().get(), reads.getId().get()).dedup().count();
+        assertEquals(1L, count);
+    }
+
+    @Test
+    public void shouldDrop() {
+        long dropped = graphTemplate.getTraversalVertex().outE(READS).drop(1);
+        assertEquals(3L, dropped);
+        assertEquals(0L, graphTemplate.getTraversalVertex().outE(READS).count());
+    }
+
     @Test
     public void shouldReturnZeroWhenCountIsEmpty() {
         long count = graphTemplate.getTraversalVertex().outE("WRITES").count();
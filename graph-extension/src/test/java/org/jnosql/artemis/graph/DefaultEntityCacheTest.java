@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.jnosql.artemis.Converters;
+import org.jnosql.artemis.graph.cdi.CDIJUnitRunner;
+import org.jnosql.artemis.graph.model.Book;
+import org.jnosql.artemis.graph.model.Person;
+import org.jnosql.artemis.reflection.ClassRepresentations;
+import org.jnosql.artemis.reflection.Reflections;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.jnosql.artemis.graph.model.Person.builder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(CDIJUnitRunner.class)
+public class DefaultEntityCacheTest {
+
+    @Inject
+    private ClassRepresentations classRepresentations;
+
+    @Inject
+    private VertexConverter converter;
+
+    @Inject
+    private GraphWorkflow workflow;
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private Reflections reflections;
+
+    @Inject
+    private Converters converters;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenMaxSizeIsInvalid() {
+        EntityCache.of(0, Duration.ofMinutes(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenTtlIsInvalid() {
+        EntityCache.of(10, Duration.ZERO);
+    }
+
+    @Test
+    public void shouldCountHitsAndMisses() {
+        EntityCache cache = EntityCache.of(10, Duration.ofMinutes(1));
+        cache.put(vertex("Person", 1L, "Otavio"));
+
+        assertEquals("Otavio", cache.get("Person", 1L).flatMap(v -> v.get("name")).get().get());
+        assertFalse(cache.get("Person", 2L).isPresent());
+        assertFalse(cache.get("Book", 1L).isPresent());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(2L, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldReturnCopy() {
+        EntityCache cache = EntityCache.of(10, Duration.ofMinutes(1));
+        ArtemisVertex vertex = vertex("Person", 1L, "Otavio");
+        cache.put(vertex);
+        vertex.add("name", "Poliana");
+
+        ArtemisVertex cached = cache.get("Person", 1L).get();
+        cached.add("name", "Paulo");
+        assertNotSame(cached, cache.get("Person", 1L).get());
+        assertEquals("Otavio", cache.get("Person", 1L).flatMap(v -> v.get("name")).get().get());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        EntityCache cache = new DefaultEntityCache(2, 1, 100L, () -> 0L);
+        cache.put(vertex("Person", 1L, "Otavio"));
+        cache.put(vertex("Person", 2L, "Poliana"));
+        cache.get("Person", 1L);
+        cache.put(vertex("Person", 3L, "Paulo"));
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("Person", 1L).isPresent());
+        assertFalse(cache.get("Person", 2L).isPresent());
+        assertEquals(1L, cache.getEvictionCount());
+    }
+
+    @Test
+    public void shouldKeepMaxSizeAcrossSegments() {
+        EntityCache cache = new DefaultEntityCache(10, 4, 100L, () -> 0L);
+        for (long id = 0; id < 100; id++) {
+            cache.put(vertex("Person", id, "Otavio"));
+        }
+        assertTrue(cache.size() <= 10);
+        assertEquals(100L - cache.size(), cache.getEvictionCount());
+    }
+
+    @Test
+    public void shouldExpire() {
+        AtomicLong ticker = new AtomicLong();
+        EntityCache cache = new DefaultEntityCache(10, 1, 100L, ticker::get);
+        cache.put(vertex("Person", 1L, "Otavio"));
+        ticker.set(99L);
+        assertTrue(cache.get("Person", 1L).isPresent());
+        ticker.set(100L);
+        assertFalse(cache.get("Person", 1L).isPresent());
+        assertEquals(1L, cache.getEvictionCount());
+    }
+
+    @Test
+    public void shouldCacheFindAndInvalidateOnUpdateAndDelete() {
+        EntityCache cache = EntityCache.of(10, Duration.ofMinutes(1));
+        GraphTemplate template = getTemplate(cache);
+
+        Person person = template.insert(builder().withAge().withName("Otavio").build());
+        Person found = template.find(Person.class, person.getId()).get();
+        assertNotSame(found, template.find(Person.class, person.getId()).get());
+        assertEquals(1L, cache.getHitCount());
+
+        template.update(builder().withId(person.getId()).withAge().withName("Otavio Santana").build());
+        assertEquals("Otavio Santana", template.find(Person.class, person.getId()).get().getName());
+
+        template.delete(person.getId());
+        assertFalse(template.find(Person.class, person.getId()).isPresent());
+    }
+
+    @Test
+    public void shouldCacheFindWithStringId() {
+        EntityCache cache = EntityCache.of(10, Duration.ofMinutes(1));
+        GraphTemplate template = getTemplate(cache);
+
+        Book book = template.insert(Book.builder().withAge(2007).withName("The Shack").build());
+        assertTrue(template.find(Book.class, book.getId()).isPresent());
+        Book found = template.find(Book.class, book.getId()).get();
+        assertEquals(book.getId(), found.getId());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1, cache.size());
+
+        template.delete(book.getId());
+    }
+
+    @Test
+    public void shouldInvalidateOnTraversalDrop() {
+        EntityCache cache = EntityCache.of(10, Duration.ofMinutes(1));
+        GraphTemplate template = getTemplate(cache);
+
+        Person person = template.insert(builder().withAge().withName("Otavio").build());
+        assertTrue(template.find(Person.class, person.getId()).isPresent());
+        assertEquals(1, cache.size());
+
+        template.getTraversalVertex().hasLabel("Person").has("name", "Otavio").drop();
+        assertEquals(0, cache.size());
+        assertFalse(template.find(Person.class, person.getId()).isPresent());
+    }
+
+    @Test
+    public void shouldInvalidateAfterCommit() {
+        EntityCache cache = EntityCache.of(10, Duration.ofMinutes(1));
+        GraphTemplate template = getTemplate(cache);
+        Person person = template.insert(builder().withAge().withName("Otavio").build());
+        graph.tx().commit();
+
+        template.find(Person.class, person.getId());
+        ArtemisVertex stale = cache.get("Person", person.getId()).get();
+        template.update(builder().withId(person.getId()).withAge().withName("Otavio Santana").build());
+        cache.put(stale);
+        graph.tx().commit();
+
+        assertFalse(cache.get("Person", person.getId()).isPresent());
+        template.delete(person.getId());
+        graph.tx().commit();
+    }
+
+    private GraphTemplate getTemplate(EntityCache cache) {
+        return new DefaultGraphTemplateProducer.ProducerGraphTemplate(classRepresentations,
+                converter, workflow, graph, reflections, converters, Optional.of(cache));
+    }
+
+    private ArtemisVertex vertex(String label, Object id, String name) {
+        ArtemisVertex vertex = ArtemisVertex.of(label, id);
+        vertex.add("name", name);
+        return vertex;
+    }
+}
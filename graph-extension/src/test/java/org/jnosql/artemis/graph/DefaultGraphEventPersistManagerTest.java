@@ -24,9 +24,17 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import javax.enterprise.event.Event;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.ObserverMethod;
 
+import static java.util.Collections.singleton;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @RunWith(MockitoJUnitRunner.class)
 public class DefaultGraphEventPersistManagerTest {
@@ -52,6 +60,9 @@ public class DefaultGraphEventPersistManagerTest {
     @Mock
     private Event<EntityGraphPostPersist> entityGraphPostPersist;
 
+    @Mock
+    private BeanManager beanManager;
+
 
     @Test
     public void shouldFirePreGraph() {
@@ -126,6 +137,34 @@ public class DefaultGraphEventPersistManagerTest {
     }
 
 
+    @Test
+    public void shouldNotFireWhenThereIsNoObserver() {
+        subject.init();
+        Jedi jedi = new Jedi();
+        ArtemisVertex entity = ArtemisVertex.of("label");
+        subject.firePreGraph(entity);
+        subject.firePostGraph(entity);
+        subject.firePreEntity(jedi);
+        subject.firePostEntity(jedi);
+        subject.firePreGraphEntity(jedi);
+        subject.firePostGraphEntity(jedi);
+
+        verifyZeroInteractions(graphEntityPrePersistEvent, graphEntityPostPersistEvent, entityPrePersistEvent,
+                entityPostPersitEvent, entityGraphPrePersist, entityGraphPostPersist);
+    }
+
+    @Test
+    public void shouldFireOnlyObservedEvents() {
+        doReturn(singleton(mock(ObserverMethod.class)))
+                .when(beanManager).resolveObserverMethods(isA(EntityPrePersist.class));
+        subject.init();
+        Jedi jedi = new Jedi();
+        subject.firePreEntity(jedi);
+        subject.firePostEntity(jedi);
+
+        verify(entityPrePersistEvent).fire(any(EntityPrePersist.class));
+        verifyZeroInteractions(entityPostPersitEvent);
+    }
 
     class Jedi {
         private String name;
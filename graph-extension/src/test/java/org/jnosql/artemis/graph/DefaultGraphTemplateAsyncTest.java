@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2017 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.jnosql.artemis.graph;
+
+import org.jnosql.artemis.graph.cdi.CDIJUnitRunner;
+import org.jnosql.artemis.graph.model.Person;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import javax.inject.Inject;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import static org.jnosql.artemis.graph.model.Person.builder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(CDIJUnitRunner.class)
+public class DefaultGraphTemplateAsyncTest {
+
+    @Inject
+    private GraphTemplateAsync templateAsync;
+
+    @Inject
+    private GraphTemplate graphTemplate;
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenEntityIsNull() {
+        templateAsync.insert(null);
+    }
+
+    @Test
+    public void shouldInsertFindAndDelete() throws ExecutionException, InterruptedException {
+        Person person = templateAsync.insert(builder().withAge().withName("Otavio").build()).get();
+        assertNotNull(person.getId());
+
+        Optional<Person> found = templateAsync.<Person, Long>find(person.getId()).get();
+        assertTrue(found.isPresent());
+        assertEquals("Otavio", found.get().getName());
+
+        templateAsync.delete(person.getId()).get();
+        assertFalse(templateAsync.<Person, Long>find(person.getId()).get().isPresent());
+    }
+
+    @Test
+    public void shouldCountTraversal() throws ExecutionException, InterruptedException {
+        Person person = templateAsync.insert(builder().withAge().withName("Ada").build()).get();
+
+        long count = templateAsync.count(graphTemplate.getTraversalVertex(person.getId())).get();
+        assertEquals(1L, count);
+
+        templateAsync.delete(person.getId()).get();
+    }
+
+    @Test
+    public void shouldRunOnTheTemplatePoolWithoutExecutorBean() throws ExecutionException, InterruptedException {
+        String thread = templateAsync.execute(t -> Thread.currentThread().getName()).get();
+        assertTrue(thread.startsWith("graph-template-async-"));
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void shouldCompleteExceptionallyWhenUpdateFails() throws ExecutionException, InterruptedException {
+        templateAsync.update(builder().withId(-1L).withAge().withName("Ada").build()).get();
+    }
+}
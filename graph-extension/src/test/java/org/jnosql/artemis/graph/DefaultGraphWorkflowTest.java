@@ -21,9 +21,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.UnaryOperator;
 
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -77,4 +82,17 @@ public class DefaultGraphWorkflowTest {
         verify(converter).toVertex(any(Object.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldUseTheConvertedVertexInTheAction() {
+        List<ArtemisVertex> vertices = new ArrayList<>();
+        UnaryOperator<ArtemisVertex> action = t -> {
+            vertices.add(t);
+            return t;
+        };
+        subject.flow("entity", action);
+
+        assertEquals(singletonList(artemisVertex), vertices);
+        verify(converter, times(1)).toVertex(any(Object.class));
+    }
+
+}
@@ -14,6 +14,8 @@
  */
 package org.jnosql.artemis.graph;
 
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.graph.cdi.CDIJUnitRunner;
 import org.jnosql.artemis.graph.model.Actor;
 import org.jnosql.artemis.graph.model.Director;
@@ -47,6 +49,9 @@ public class DefaultVertexConverterTest {
     @Inject
     private VertexConverter converter;
 
+    @Inject
+    private Graph graph;
+
     private ArtemisProperty[] elements;
 
     private Actor actor = Actor.actorBuilder().withAge()
@@ -110,6 +115,18 @@ public class DefaultVertexConverterTest {
         assertEquals(singletonMap("JavaZone", 10), actor.getMovieRating());
     }
 
+    @Test
+    public void shouldReuseTheMapperToConvertVertexToActor() {
+        ArtemisVertex entity = ArtemisVertex.of("Actor", 12L);
+        Stream.of(elements).forEach(entity::add);
+
+        Actor actor = converter.toEntity(Actor.class, entity);
+        Actor actor2 = converter.toEntity(Actor.class, entity);
+        assertEquals(actor.getId(), actor2.getId());
+        assertEquals(actor.getPhones(), actor2.getPhones());
+        assertEquals(converter.toVertex(actor), converter.toVertex(actor2));
+    }
+
     @Test
     public void shouldConvertVertexToActorFromEntity() {
         ArtemisVertex entity = ArtemisVertex.of("Actor", 12L);
@@ -124,6 +141,20 @@ public class DefaultVertexConverterTest {
         assertEquals(singletonMap("JavaZone", 10), actor.getMovieRating());
     }
 
+    @Test
+    public void shouldConvertTinkerPopVertexToEntity() {
+        Vertex vertex = graph.addVertex("Person");
+        vertex.property("name", "Otavio");
+        vertex.property("age", 27);
+        vertex.property("ignored", "not mapped");
+
+        Person person = converter.toEntity(vertex);
+        assertEquals(vertex.id(), person.getId());
+        assertEquals("Otavio", person.getName());
+        assertEquals(27, person.getAge());
+        vertex.remove();
+    }
+
     @Test
     public void shouldConvertDirectorToVertex() {
 
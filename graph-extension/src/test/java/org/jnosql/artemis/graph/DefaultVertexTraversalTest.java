@@ -15,14 +15,20 @@
 package org.jnosql.artemis.graph;
 
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.graph.cdi.CDIJUnitRunner;
 import org.jnosql.artemis.graph.model.Animal;
 import org.jnosql.artemis.graph.model.Book;
 import org.jnosql.artemis.graph.model.Person;
+import org.jnosql.artemis.graph.model.Tag;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import javax.inject.Inject;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +36,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -40,6 +47,9 @@ import static org.junit.Assert.assertTrue;
 @RunWith(CDIJUnitRunner.class)
 public class DefaultVertexTraversalTest extends AbstractTraversalTest {
 
+    @Inject
+    private Graph graph;
+
 
     @Test(expected = NullPointerException.class)
     public void shouldReturnErrorWhenVertexIdIsNull() {
@@ -55,6 +65,80 @@ public class DefaultVertexTraversalTest extends AbstractTraversalTest {
         assertThat(people, containsInAnyOrder(otavio, poliana));
     }
 
+    @Test
+    public void shouldReadStreamLazily() {
+        try (Stream<Person> stream = graphTemplate.getTraversalVertex().hasLabel("Person").stream()) {
+            Optional<Person> person = stream.findFirst();
+            assertTrue(person.isPresent());
+        }
+    }
+
+    @Test
+    public void shouldStreamWithProjection() {
+        List<Person> people = graphTemplate.getTraversalVertex().hasLabel("Person").stream(Person.class)
+                .collect(toList());
+        assertThat(people, containsInAnyOrder(otavio, poliana, paulo));
+        Person person = people.stream().filter(otavio::equals).findFirst().get();
+        assertEquals(otavio.getName(), person.getName());
+        assertEquals(otavio.getAge(), person.getAge());
+    }
+
+    @Test
+    public void shouldNextWithProjection() {
+        Optional<Person> person = graphTemplate.getTraversalVertex().has("name", "Poliana").next(Person.class);
+        assertTrue(person.isPresent());
+        assertEquals(poliana, person.get());
+        assertEquals("Poliana", person.get().getName());
+    }
+
+    @Test
+    public void shouldProjectIdAndLabelWhenEntityHasNoProperty() {
+        Vertex vertex = graph.addVertex(T.label, "Tag", "name", "java");
+
+        Optional<Tag> tag = graphTemplate.getTraversalVertex().hasLabel("Tag").next(Tag.class);
+        assertTrue(tag.isPresent());
+        assertEquals(vertex.id(), tag.get().getId());
+        vertex.remove();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenProjectionClassIsNull() {
+        graphTemplate.getTraversalVertex().stream(null);
+    }
+
+    @Test
+    public void shouldReuseTraversalWithParam() {
+        VertexTraversal byName = graphTemplate.getTraversalVertex().has("name", TraversalParam.of("name"));
+
+        Optional<Person> person = byName.bind("name", "Poliana").next();
+        assertTrue(person.isPresent());
+        assertEquals(poliana, person.get());
+
+        person = byName.bind("name", "Otavio").next();
+        assertTrue(person.isPresent());
+        assertEquals(otavio, person.get());
+    }
+
+    @Test
+    public void shouldKeepParamApartFromSideEffects() {
+        GraphTraversal<?, ?> traversal = __.start();
+        traversal.asAdmin().getSideEffects().register("name", () -> "sideEffect", null);
+
+        TraversalParam.bind(traversal, "name", "Poliana");
+        assertEquals("Poliana", TraversalParam.resolve(traversal, TraversalParam.of("name")));
+        assertEquals("sideEffect", traversal.asAdmin().getSideEffects().get("name"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldReturnErrorWhenParamIsNotBound() {
+        graphTemplate.getTraversalVertex().has("name", TraversalParam.of("name")).next();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenBindValueIsNull() {
+        graphTemplate.getTraversalVertex().bind("name", null);
+    }
+
     @Test
     public void shouldDefineLimit() {
         List<Person> people = graphTemplate.getTraversalVertex(otavio.getId(), poliana.getId(), paulo.getId()).limit(1).<Person>stream()
@@ -211,6 +295,83 @@ public class DefaultVertexTraversalTest extends AbstractTraversalTest {
         assertEquals(6L, count);
     }
 
+    @Test
+    public void shouldRepeatWithSimplePathAndEmit() {
+        List<Object> withCycles = graphTemplate.getTraversalVertex(otavio.getId()).repeat().both(READS)
+                .emit().times(2).stream().collect(toList());
+        assertThat(withCycles, containsInAnyOrder(effectiveJava, otavio));
+
+        List<Object> withoutCycles = graphTemplate.getTraversalVertex(otavio.getId()).repeat().both(READS)
+                .simplePath().emit().times(2).stream().collect(toList());
+        assertThat(withoutCycles, containsInAnyOrder(effectiveJava));
+    }
+
+    @Test
+    public void shouldReturnPath() {
+        List<List<Object>> paths = graphTemplate.getTraversalVertex(otavio.getId()).out(READS).path()
+                .collect(toList());
+        assertEquals(1, paths.size());
+        assertThat(paths.get(0), contains(otavio, effectiveJava));
+    }
+
+    @Test
+    public void shouldFindShortestPath() {
+        List<Object> path = graphTemplate.shortestPath(otavio, effectiveJava, 3, READS);
+        assertThat(path, contains(otavio, effectiveJava));
+        assertTrue(graphTemplate.shortestPath(otavio, shack, 3, READS).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenShortestPathDepthIsInvalid() {
+        graphTemplate.shortestPath(otavio, effectiveJava, 0, READS);
+    }
+
+    @Test
+    public void shouldDedup() {
+        long count = graphTemplate.getTraversalVertex(otavio.getId(), otavio.getId()).dedup().count();
+        assertEquals(1L, count);
+    }
+
+    @Test
+    public void shouldGroupCount() {
+        Map<String, Long> names = graphTemplate.getTraversalVertex().hasLabel("Person").groupCount("name");
+        assertEquals(3, names.size());
+        assertEquals(Long.valueOf(1L), names.get("Otavio"));
+    }
+
+    @Test
+    public void shouldAggregate() {
+        VertexTraversal people = graphTemplate.getTraversalVertex().hasLabel("Person");
+        assertEquals(103L, people.sum("age").get().longValue());
+        assertEquals(26L, people.min("age").get().longValue());
+        assertEquals(50L, people.max("age").get().longValue());
+        assertEquals(103D / 3, people.mean("age").get(), 0.001);
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenAggregateIsEmpty() {
+        assertFalse(graphTemplate.getTraversalVertex().hasLabel("Animal").max("age").isPresent());
+    }
+
+    @Test
+    public void shouldDrop() {
+        graphTemplate.getTraversalVertex().hasLabel("Book").drop();
+        assertEquals(0L, graphTemplate.getTraversalVertex().hasLabel("Book").count());
+        assertEquals(3L, graphTemplate.getTraversalVertex().hasLabel("Person").count());
+    }
+
+    @Test
+    public void shouldDropInBatches() {
+        long dropped = graphTemplate.getTraversalVertex().hasLabel("Person").drop(2);
+        assertEquals(3L, dropped);
+        assertEquals(0L, graphTemplate.getTraversalVertex().hasLabel("Person").count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenDropBatchSizeIsInvalid() {
+        graphTemplate.getTraversalVertex().drop(0);
+    }
+
     @Test
     public void shouldReturnZeroWhenCountIsEmpty() {
         long count = graphTemplate.getTraversalVertex().both("WRITES").count();
@@ -24,8 +24,12 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
@@ -240,4 +244,73 @@ public class EdgeEntityTest {
         assertFalse(edgeEntity.isPresent());
     }
 
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenDefinitionsIsNull() {
+        graphTemplate.edges(null);
+    }
+
+    @Test(expected = EntityNotFoundException.class)
+    public void shouldReturnEntityNotFoundWhenEdgesInBoundDidNotFound() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Book book = Book.builder().withId("10").withAge(2007).withName("The Shack").build();
+        graphTemplate.edges(singletonList(EdgeDefinition.of(person, "reads", book)));
+    }
+
+    @Test
+    public void shouldCreateEdges() {
+        Person poliana = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Person otavio = graphTemplate.insert(Person.builder().withName("Otavio").withAge().build());
+        Book book = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+
+        List<EdgeEntity<Person, Book>> edges = new ArrayList<>();
+        graphTemplate.edges(asList(EdgeDefinition.of(poliana, "reads", book),
+                EdgeDefinition.of(otavio, "reads", book)), false).forEach(edges::add);
+
+        assertEquals(2, edges.size());
+        assertEquals(poliana, edges.get(0).getOutbound());
+        assertEquals(otavio, edges.get(1).getOutbound());
+        assertEquals(book, edges.get(1).getInbound());
+        edges.forEach(e -> assertEquals("reads", e.getLabel()));
+
+        edges.forEach(EdgeEntity::delete);
+    }
+
+    @Test
+    public void shouldReuseExistingEdges() {
+        Person person = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Book book = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+        EdgeEntity<Person, Book> edge = graphTemplate.edge(person, "reads", book);
+
+        EdgeEntity<Person, Book> reused = graphTemplate.edges(singletonList(EdgeDefinition.of(person, "reads", book)))
+                .iterator().next();
+
+        assertEquals(edge.getId(), reused.getId());
+        edge.delete();
+    }
+
+    @Test
+    public void shouldCheckExistenceOfEdgesInBatch() {
+        Person poliana = graphTemplate.insert(Person.builder().withName("Poliana").withAge().build());
+        Person otavio = graphTemplate.insert(Person.builder().withName("Otavio").withAge().build());
+        Book book = graphTemplate.insert(Book.builder().withAge(2007).withName("The Shack").build());
+        EdgeEntity<Person, Book> edge = graphTemplate.edge(poliana, "reads", book);
+
+        List<EdgeEntity<Person, Book>> edges = new ArrayList<>();
+        graphTemplate.edges(asList(EdgeDefinition.of(poliana, "reads", book),
+                EdgeDefinition.of(poliana, "likes", book),
+                EdgeDefinition.of(otavio, "reads", book),
+                EdgeDefinition.of(otavio, "reads", book))).forEach(edges::add);
+
+        assertEquals(4, edges.size());
+        assertEquals(edge.getId(), edges.get(0).getId());
+        assertNotEquals(edge.getId(), edges.get(1).getId());
+        assertNotEquals(edge.getId(), edges.get(2).getId());
+        assertEquals(edges.get(2).getId(), edges.get(3).getId());
+        assertEquals(3L, graphTemplate.getTraversalVertex(poliana.getId(), otavio.getId()).outE("reads", "likes")
+                .count());
+
+        edges.stream().skip(1).limit(2).forEach(EdgeEntity::delete);
+        edge.delete();
+    }
+
 }
@@ -14,6 +14,9 @@
  */
 package org.jnosql.artemis.graph;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.jnosql.artemis.EntityNotFoundException;
 import org.jnosql.artemis.IdNotFoundException;
 import org.jnosql.artemis.graph.cdi.CDIJUnitRunner;
@@ -23,8 +26,11 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import javax.inject.Inject;
+import java.util.List;
 import java.util.Optional;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.jnosql.artemis.graph.model.Person.builder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -37,6 +43,9 @@ public class GraphTemplateTest {
     @Inject
     private GraphTemplate graphTemplate;
 
+    @Inject
+    private GraphTemplateProducer producer;
+
 
     @Test(expected = IdNotFoundException.class)
     public void shouldReturnErrorWhenThereIsNotId() {
@@ -96,6 +105,85 @@ public class GraphTemplateTest {
     }
 
 
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenEntitiesIsNull() {
+        graphTemplate.insert((Iterable<Person>) null, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReturnErrorWhenBatchSizeIsInvalid() {
+        graphTemplate.insert(singletonList(builder().withAge().withName("Otavio").build()), 0);
+    }
+
+    @Test
+    public void shouldInsertEntitiesInBatch() {
+        List<Person> people = asList(builder().withAge().withName("Otavio").build(),
+                builder().withAge().withName("Poliana").build(),
+                builder().withAge().withName("Paulo").build());
+
+        BatchResult result = graphTemplate.insert(people, 2);
+        assertEquals(3L, result.getCount());
+        assertEquals(3, result.getIds().size());
+
+        VertexTraversal inserted = graphTemplate.getTraversalVertex(result.getIds().toArray()).hasLabel("Person")
+                .has("name", P.within("Otavio", "Poliana", "Paulo"));
+        assertEquals(3L, inserted.count());
+        inserted.drop();
+    }
+
+    @Test
+    public void shouldUpdateEntitiesInBatch() {
+        Person otavio = graphTemplate.insert(builder().withAge().withName("Otavio").build());
+        Person poliana = graphTemplate.insert(builder().withAge().withName("Poliana").build());
+
+        List<Person> people = asList(builder().withAge().withId(otavio.getId()).withName("Otavio Updated").build(),
+                builder().withAge().withId(poliana.getId()).withName("Poliana Updated").build());
+
+        BatchResult result = graphTemplate.update(people, 1);
+        assertEquals(2L, result.getCount());
+        assertEquals(asList(otavio.getId(), poliana.getId()), result.getIds());
+
+        assertEquals("Otavio Updated", graphTemplate.<Person, Long>find(otavio.getId()).get().getName());
+        assertEquals("Poliana Updated", graphTemplate.<Person, Long>find(poliana.getId()).get().getName());
+        graphTemplate.delete(otavio.getId());
+        graphTemplate.delete(poliana.getId());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenUpsertEntityIsNull() {
+        graphTemplate.upsert(null);
+    }
+
+    @Test
+    public void shouldUpsertWhenThereIsNotId() {
+        Person person = graphTemplate.upsert(builder().withAge()
+                .withName("Otavio").build());
+
+        assertNotNull(person.getId());
+        assertTrue(graphTemplate.find(person.getId()).isPresent());
+
+        graphTemplate.delete(person.getId());
+    }
+
+    @Test
+    public void shouldUpsertAnExistingEntity() {
+        Person person = graphTemplate.insert(builder().withAge()
+                .withName("Otavio").build());
+        Person newPerson = builder()
+                .withAge()
+                .withId(person.getId())
+                .withName("Otavio Upserted").build();
+
+        Person upserted = graphTemplate.upsert(newPerson);
+
+        assertEquals(newPerson, upserted);
+        Optional<Person> found = graphTemplate.find(person.getId());
+        assertTrue(found.isPresent());
+        assertEquals("Otavio Upserted", found.get().getName());
+
+        graphTemplate.delete(person.getId());
+    }
+
     @Test(expected = NullPointerException.class)
     public void shouldReturnErrorInFindWhenIdIsNull() {
         graphTemplate.find(null);
@@ -120,6 +208,35 @@ public class GraphTemplateTest {
         assertFalse(personFound.isPresent());
     }
 
+    @Test
+    public void shouldRunComputerTraversal() throws Exception {
+        try (Graph graph = TinkerGraph.open()) {
+            GraphTemplate template = producer.get(graph);
+            Person otavio = template.insert(builder().withAge(30).withName("Otavio").build());
+            Person poliana = template.insert(builder().withAge(25).withName("Poliana").build());
+            template.edge(otavio, "knows", poliana);
+
+            assertEquals(2L, template.getComputerTraversalVertex().hasLabel("Person").count());
+            assertEquals(1L, template.getComputerTraversalEdge().count());
+
+            Optional<Person> person = template.getComputerTraversalVertex().has("name", "Poliana")
+                    .next(Person.class);
+            assertTrue(person.isPresent());
+            assertEquals(poliana.getId(), person.get().getId());
+            assertEquals("Poliana", person.get().getName());
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnErrorWhenGraphDoesNotSupportComputer() {
+        graphTemplate.getComputerTraversalVertex();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldReturnErrorWhenComputerVertexIdIsNull() {
+        graphTemplate.getComputerTraversalVertex((Object) null);
+    }
+
     @Test
     public void shouldDeleteAnEntity() {
 
@@ -14,10 +14,12 @@
  */
 package org.jnosql.artemis.graph.model;
 
+import org.jnosql.artemis.graph.BatchResult;
 import org.jnosql.artemis.graph.GraphTemplate;
 import org.jnosql.artemis.graph.Transactional;
 
 import javax.inject.Inject;
+import java.util.Optional;
 
 public class BookTemplate {
 
@@ -35,6 +37,16 @@ public class BookTemplate {
         throw new NullPointerException("should get a rollback");
     }
 
+    @Transactional
+    public BatchResult insert(Iterable<Book> books, int batchSize) {
+        return graphTemplate.insert(books, batchSize);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Book> find(String id) {
+        return graphTemplate.find(id);
+    }
+
     public void normalInsertion(Book actor) {
         graphTemplate.insert(actor);
     }
@@ -320,6 +320,20 @@ public class GraphQueryParserTest {
 
     }
 
+    @Test
+    public void shouldReuseParsedMethodWithNewArguments() {
+        graph.addVertex(T.label, "Person", "name", "name", "age", 10);
+        graph.addVertex(T.label, "Person", "name", "name2", "age", 9);
+
+        GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V();
+        parser.findByParse("findByName", new Object[]{"name"}, classRepresentation, traversal);
+        assertEquals(10, traversal.next().property("age").value());
+
+        traversal = graph.traversal().V();
+        parser.findByParse("findByName", new Object[]{"name2"}, classRepresentation, traversal);
+        assertEquals(9, traversal.next().property("age").value());
+    }
+
     @Test(expected = DynamicQueryException.class)
     public void shouldReturnErrorWhenIsMissedArgument() {
         GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V();
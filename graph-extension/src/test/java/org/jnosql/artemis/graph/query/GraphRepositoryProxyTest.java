@@ -20,6 +20,7 @@ import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.jnosql.artemis.Repository;
 import org.jnosql.artemis.graph.GraphTemplate;
+import org.jnosql.artemis.graph.Pagination;
 import org.jnosql.artemis.graph.VertexConverter;
 import org.jnosql.artemis.graph.cdi.CDIJUnitRunner;
 import org.jnosql.artemis.graph.model.Person;
@@ -33,19 +34,27 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import javax.inject.Inject;
+import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -80,7 +89,8 @@ public class GraphRepositoryProxyTest {
         this.template = Mockito.mock(GraphTemplate.class);
 
         GraphRepositoryProxy handler = new GraphRepositoryProxy(template,
-                classRepresentations, PersonRepository.class, reflections, graph, vertexConverter);
+                classRepresentations, PersonRepository.class, reflections, graph, vertexConverter,
+                Optional.empty());
 
         when(template.insert(any(Person.class))).thenReturn(Person.builder().build());
         when(template.update(any(Person.class))).thenReturn(Person.builder().build());
@@ -99,7 +109,7 @@ public class GraphRepositoryProxyTest {
 
     @Test
     public void shouldSaveUsingInsertWhenDataDoesNotExist() {
-        when(template.find(Mockito.any(Long.class))).thenReturn(Optional.empty());
+        when(template.find(eq(Person.class), Mockito.any(Long.class))).thenReturn(Optional.empty());
 
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
@@ -114,7 +124,8 @@ public class GraphRepositoryProxyTest {
 
     @Test
     public void shouldSaveUsingUpdateWhenDataExists() {
-        when(template.find(Mockito.any(Long.class))).thenReturn(Optional.of(Person.builder().build()));
+        when(template.find(eq(Person.class), Mockito.any(Long.class)))
+                .thenReturn(Optional.of(Person.builder().build()));
 
         ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
         Person person = Person.builder().withName("Ada")
@@ -209,11 +220,84 @@ public class GraphRepositoryProxyTest {
 
     }
 
+    @Test
+    public void shouldFindByAgeAsStream() {
+        graph.addVertex(T.label, "Person", "name", "name", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "name2", "age", 30);
+
+        try (Stream<Person> people = personRepository.findByAgeGreaterThan(10)) {
+            assertEquals(2, people.count());
+        }
+    }
+
+    @Test
+    public void shouldFindByAgeAsIterable() {
+        graph.addVertex(T.label, "Person", "name", "name", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "name2", "age", 30);
+
+        Iterable<Person> people = personRepository.findByAgeLessThan(25);
+        graph.addVertex(T.label, "Person", "name", "name3", "age", 10);
+
+        List<Person> result = StreamSupport.stream(people.spliterator(), false).collect(toList());
+        assertEquals(3, result.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldIterateIterableOnce() {
+        graph.addVertex(T.label, "Person", "name", "name", "age", 20);
+
+        Iterable<Person> people = personRepository.findByAgeLessThan(25);
+        people.forEach(Objects::requireNonNull);
+        people.iterator();
+    }
+
+    @Test
+    public void shouldCloseStreamWhenExhausted() throws NoSuchMethodException {
+        AtomicBoolean closed = new AtomicBoolean();
+        Method method = PersonRepository.class.getMethod("findByAgeGreaterThan", Integer.class);
+
+        Supplier<Stream<?>> supplier = () -> Stream.of(Person.builder().build(), Person.builder().build())
+                .onClose(() -> closed.set(true));
+
+        Stream<?> people = (Stream<?>) ReturnTypeConverterUtil.returnObject(supplier, Person.class, method);
+        assertFalse(closed.get());
+        assertEquals(2, people.count());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void shouldFindByAgeWithPagination() {
+        graph.addVertex(T.label, "Person", "name", "name", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "name2", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "name3", "age", 20);
+
+        assertEquals(2, personRepository.findByAge(20, Pagination.of(0, 2)).size());
+        assertEquals(1, personRepository.findByAge(20, Pagination.page(2, 2)).size());
+    }
+
+    @Test
+    public void shouldExistsByName() {
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 20);
+
+        assertTrue(personRepository.existsByName("Ada"));
+        assertFalse(personRepository.existsByName("Poliana"));
+    }
+
+    @Test
+    public void shouldCountByAge() {
+        graph.addVertex(T.label, "Person", "name", "Ada", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "Poliana", "age", 20);
+        graph.addVertex(T.label, "Person", "name", "Otavio", "age", 30);
+
+        assertEquals(2L, personRepository.countByAge(20));
+        assertEquals(0L, personRepository.countByAge(40));
+    }
+
     @Test
     public void shouldFindById() {
         ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
         personRepository.findById(10L);
-        verify(template).find(captor.capture());
+        verify(template).find(eq(Person.class), captor.capture());
 
         Object id = captor.getValue();
 
@@ -223,13 +307,13 @@ public class GraphRepositoryProxyTest {
     @Test
     public void shouldFindByIds() {
 
-        when(template.find(any(Object.class))).thenReturn(Optional.empty());
+        when(template.find(eq(Person.class), any(Object.class))).thenReturn(Optional.empty());
         ArgumentCaptor<Iterable> captor = ArgumentCaptor.forClass(Iterable.class);
         personRepository.findById(singletonList(10L));
-        verify(template).find(captor.capture());
+        verify(template).find(eq(Person.class), captor.capture());
 
         personRepository.findById(asList(1L, 2L, 3L));
-        verify(template, times(4)).find(any(Long.class));
+        verify(template, times(4)).find(eq(Person.class), any(Long.class));
     }
 
     @Test
@@ -253,12 +337,12 @@ public class GraphRepositoryProxyTest {
 
     @Test
     public void shouldContainsById() {
-        when(template.find(any(Long.class))).thenReturn(Optional.of(Person.builder().build()));
+        when(template.find(eq(Person.class), any(Long.class))).thenReturn(Optional.of(Person.builder().build()));
 
         assertTrue(personRepository.existsById(10L));
-        Mockito.verify(template).find(any(Long.class));
+        Mockito.verify(template).find(eq(Person.class), any(Long.class));
 
-        when(template.find(any(Long.class))).thenReturn(Optional.empty());
+        when(template.find(eq(Person.class), any(Long.class))).thenReturn(Optional.empty());
         assertFalse(personRepository.existsById(10L));
 
     }
@@ -278,6 +362,16 @@ public class GraphRepositoryProxyTest {
 
         Set<Person> findByNameAndAgeGreaterThanEqual(String name, Integer age);
 
+        Stream<Person> findByAgeGreaterThan(Integer age);
+
+        Iterable<Person> findByAgeLessThan(Integer age);
+
+        List<Person> findByAge(Integer age, Pagination pagination);
+
+        boolean existsByName(String name);
+
+        long countByAge(Integer age);
+
 
     }
 }